@@ -0,0 +1,34 @@
+package com.crud_repeat_nocopy_0828.benchmark;
+
+import com.crud_repeat_nocopy_0828.CrudRepeatNoCopy0828Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 (웹 서버 없음, H2 MySQL 모드 인메모리 DB)
+ * 실제 MySQL 대신 H2 를 쓰므로 절대값보다 릴리스 간 상대 비교용으로 본다.
+ * */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CrudRepeatNoCopy0828Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=warn"
+                )
+                .run();
+    }
+}
@@ -0,0 +1,175 @@
+package com.crud_repeat_nocopy_0828.benchmark;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentSliceResponse;
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import com.crud_repeat_nocopy_0828.common.pagination.CursorCodec;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleDeletionService;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * User / Schedule / Comment 저장·단건 조회·목록·페이지 조회·연쇄 삭제 벤치마크
+ * dataSize = 읽기 대상 일정 하나에 달린 댓글 수
+ * 실행: ./gradlew jmh   (결과: build/reports/jmh/results.json)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DELETE_FANOUT = 100;
+
+    @Param({"1000", "10000", "50000"})
+    public int dataSize;
+
+    private ConfigurableApplicationContext context;
+    private CommentService commentService;
+    private UserService userService;
+    private ScheduleService scheduleService;
+    private ScheduleDeletionService scheduleDeletionService;
+    private UserRepository userRepository;
+    private ScheduleRepository scheduleRepository;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager em;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private User user;
+    private Long readScheduleId;
+    private Long writeScheduleId;
+    private Long firstCommentId;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        commentService = context.getBean(CommentService.class);
+        userService = context.getBean(UserService.class);
+        scheduleService = context.getBean(ScheduleService.class);
+        scheduleDeletionService = context.getBean(ScheduleDeletionService.class);
+        userRepository = context.getBean(UserRepository.class);
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        em = context.getBean(EntityManager.class);
+
+        user = userRepository.save(new User("bench", "bench@bench.test", "pw"));
+        readScheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "read", "c")).getId();
+        writeScheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "write", "c")).getId();
+
+        List<CommentCreateRequest> requests = IntStream.range(0, dataSize)
+                .mapToObj(i -> new CommentCreateRequest("comment-" + i))
+                .toList();
+        List<Long> ids = commentService.createAll(readScheduleId, user.getId(), requests).getIds();
+        firstCommentId = ids.get(0);
+        middleCursor = CursorCodec.encode(readScheduleId, ids.get(ids.size() / 2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User insertUser() {
+        long n = sequence.incrementAndGet();
+        return userRepository.save(new User("u" + n, "u" + n + "@bench.test", "pw"));
+    }
+
+    @Benchmark
+    public Schedule insertSchedule() {
+        return scheduleRepository.save(new Schedule(user, user.getUserName(), "title", "content"));
+    }
+
+    @Benchmark
+    public CommentResponse insertComment() {
+        return commentService.create(writeScheduleId, user.getId(), new CommentCreateRequest("comment"));
+    }
+
+    @Benchmark
+    public UserResponse findUserById() {
+        return userService.findById(user.getId());
+    }
+
+    @Benchmark
+    public ScheduleResponse findScheduleById() {
+        return scheduleService.findById(readScheduleId);
+    }
+
+    @Benchmark
+    public CommentResponse findCommentById() {
+        long id = firstCommentId + ThreadLocalRandom.current().nextInt(dataSize);
+        return commentService.findById(id);
+    }
+
+    @Benchmark
+    public List<CommentResponse> listComments() {
+        return commentService.findAllBySchedule(readScheduleId);
+    }
+
+    @Benchmark
+    public CommentSliceResponse firstCommentPage() {
+        return commentService.findSliceBySchedule(readScheduleId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CommentSliceResponse middleCommentPage() {
+        return commentService.findSliceBySchedule(readScheduleId, middleCursor, PAGE_SIZE);
+    }
+
+    /**
+     * 일정 + 댓글 DELETE_FANOUT 개 삭제 (JPA 방식: 자식 엔티티를 로딩해서 한 건씩 remove)
+     * 매 호출마다 지울 데이터를 새로 만들고, 만드는 시간은 측정에서 뺀다.
+     * */
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        Long scheduleId;
+
+        @Setup(Level.Invocation)
+        public void create(PersistenceBenchmark benchmark) {
+            scheduleId = benchmark.scheduleRepository
+                    .save(new Schedule(benchmark.user, benchmark.user.getUserName(), "delete", "c")).getId();
+            benchmark.commentService.createAll(scheduleId, benchmark.user.getId(), IntStream.range(0, DELETE_FANOUT)
+                    .mapToObj(i -> new CommentCreateRequest("c" + i))
+                    .toList());
+        }
+    }
+
+    @Benchmark
+    public void cascadeDeleteSchedule(DeleteTarget target) {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("select c from Comment c where c.schedule.id = :id", Comment.class)
+                    .setParameter("id", target.scheduleId)
+                    .getResultList()
+                    .forEach(em::remove);
+            em.remove(em.find(Schedule.class, target.scheduleId));
+        });
+    }
+
+    // 같은 삭제를 id 청크 + 집합 DELETE 로 (엔티티 로딩 없음)
+    @Benchmark
+    public void bulkDeleteSchedule(DeleteTarget target) {
+        scheduleDeletionService.deleteSchedules(List.of(target.scheduleId),
+                new DeletionJob("schedule:" + target.scheduleId, DELETE_FANOUT));
+    }
+}
@@ -0,0 +1,79 @@
+package com.crud_repeat_nocopy_0828.benchmark;
+
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimitProperties;
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 판정 처리량 (스레드 64개)
+ * hotKey      : 모든 스레드가 같은 버킷 하나를 두고 다툼 (CAS 경합 최악)
+ * spreadKeys  : 10,000명 사용자에 고르게 분산 (실제 트래픽에 가까움)
+ * synchronizedHotKey : 같은 조건에서 synchronized 로 만든 일반 토큰 버킷 (비교 기준)
+ * 실행: ./gradlew jmh -PjmhInclude=RateLimiterBenchmark
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class RateLimiterBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private RateLimiter rateLimiter;
+    private SynchronizedBucket synchronizedBucket;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        // 판정 비용만 재기 위해 거의 거절되지 않는 큰 버킷
+        properties.getDefaultPolicy().setCapacity(1_000_000);
+        properties.getDefaultPolicy().setRefillPerSecond(1_000_000_000);
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        synchronizedBucket = new SynchronizedBucket(1_000_000, 1_000_000_000);
+    }
+
+    @Benchmark
+    public boolean hotKey() {
+        return rateLimiter.tryAcquire("bench", "u:1").allowed();
+    }
+
+    @Benchmark
+    public boolean spreadKeys() {
+        return rateLimiter.tryAcquire("bench", "u:" + ThreadLocalRandom.current().nextInt(USERS)).allowed();
+    }
+
+    @Benchmark
+    public boolean synchronizedHotKey() {
+        return synchronizedBucket.tryAcquire();
+    }
+
+    // 토큰 수 + 마지막 충전 시각을 잠금으로 같이 고치는 흔한 구현
+    private static final class SynchronizedBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        private SynchronizedBucket(double capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1e9;
+            this.tokens = capacity;
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
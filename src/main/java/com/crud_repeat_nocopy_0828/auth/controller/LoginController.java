@@ -0,0 +1,39 @@
+package com.crud_repeat_nocopy_0828.auth.controller;
+
+import com.crud_repeat_nocopy_0828.auth.dto.LoginRequest;
+import com.crud_repeat_nocopy_0828.auth.dto.LoginResponse;
+import com.crud_repeat_nocopy_0828.auth.service.LoginService;
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimited;
+import com.crud_repeat_nocopy_0828.common.session.LoginSessionManager;
+import com.crud_repeat_nocopy_0828.common.session.LoginUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LoginController {
+
+    private final LoginService loginService;
+    private final LoginSessionManager loginSessionManager;
+
+    // 로그인. 세션 방식이면 세션 쿠키, 토큰 방식이면 본문의 token 으로 이후 요청을 인증한다
+    @PostMapping("/login")
+    @RateLimited("login")
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        Long userId = loginService.login(request);
+        String token = loginSessionManager.start(userId, httpRequest).orElse(null);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new LoginResponse(userId, token));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@LoginUser Long loginUserId, HttpServletRequest httpRequest) {
+        loginSessionManager.end(httpRequest);
+        return ResponseEntity.ok("로그아웃 성공");
+    }
+}
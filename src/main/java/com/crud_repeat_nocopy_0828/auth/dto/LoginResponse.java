@@ -0,0 +1,12 @@
+package com.crud_repeat_nocopy_0828.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LoginResponse {
+
+    private final Long userId;
+    private final String token;     // 토큰 방식(app.session.mode=token)일 때만. 이후 요청에 Authorization: Bearer {token}
+}
@@ -0,0 +1,58 @@
+package com.crud_repeat_nocopy_0828.auth.service;
+
+import com.crud_repeat_nocopy_0828.auth.dto.LoginRequest;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 로그인
+ * 해시 검증(수십 ms) 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션을 나눈다.
+ * 사용자 조회(짧은 읽기) → 검증(트랜잭션 밖, PasswordHasher 풀) → 필요하면 재해시 저장(짧은 쓰기)
+ * 재해시는 덤이라서 실패해도(해시 풀 포화 등) 로그인은 성공시키고 다음 로그인 때 다시 시도한다.
+ * */
+@Slf4j
+@Service
+public class LoginService {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoginService(UserRepository userRepository, PasswordHasher passwordHasher,
+                        PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 이메일이 없을 때와 비밀번호가 틀릴 때 같은 응답 (가입 여부를 알려 주지 않는다)
+    public Long login(LoginRequest request) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        String stored = user == null ? null : user.getPassword();
+        if (!passwordHasher.matches(request.getPassword(), stored)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        if (passwordHasher.needsRehash(stored)) {
+            try {
+                rehash(user.getId(), stored, passwordHasher.hash(request.getPassword()));
+            } catch (RuntimeException e) {
+                log.warn("password rehash skipped: user {}", user.getId(), e);
+            }
+        }
+        return user.getId();
+    }
+
+    // 비용 설정이 올라갔거나 평문으로 남아 있던 비밀번호를 새 해시로 바꾼다.
+    // 그 사이 비밀번호가 바뀌었으면(다른 요청이 먼저 저장) 덮어쓰지 않는다.
+    private void rehash(Long userId, String verified, String newHash) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                .filter(user -> verified.equals(user.getPassword()))
+                .ifPresent(user -> user.changePassword(newHash)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.crud_repeat_nocopy_0828.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시/검증
+ * BCrypt 비용(app.password.bcrypt-cost)은 설정으로 바꾼다. 저장된 해시에 비용이 들어 있어서 예전 비용의 해시도 그대로 검증되고,
+ * needsRehash 로 로그인 때 새 비용으로 다시 저장할지 알 수 있다.
+ *
+ * 계산은 passwordHashExecutor(작은 고정 풀 + 짧은 대기열)에서 한다.
+ * 요청 스레드는 결과를 기다리기만 하고, 풀이 꽉 차면 바로 503 을 돌려줘서 로그인 폭주가 다른 API 의 스레드를 잡아 두지 않는다.
+ *
+ * 해시 도입 전에 평문으로 저장된 비밀번호는 한 번 평문으로 비교하고, 로그인에 성공하면 해시로 바꿔 저장한다.
+ * */
+@Component
+public class PasswordHasher {
+
+    private static final String BCRYPT_PREFIX = "$2";
+    // 로그인과 비밀번호 변경(PUT /users/me)이 같은 풀을 쓰므로 어느 쪽에도 맞는 문구로 둔다
+    private static final String BUSY_MESSAGE = "비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final BCryptPasswordEncoder encoder;
+    private final AsyncTaskExecutor executor;
+    private final long timeoutMs;
+    private final Timer hashTimer;
+    private final Counter rejected;
+    // 없는 이메일로 로그인해도 같은 시간이 걸리게 비교할 더미 해시 (가입 여부를 응답 시간으로 알 수 없게)
+    private final String dummyHash;
+
+    public PasswordHasher(
+            @Value("${app.password.bcrypt-cost:10}") int cost,
+            @Value("${app.password.timeout-ms:2000}") long timeoutMs,
+            @Qualifier("passwordHashExecutor") AsyncTaskExecutor executor,
+            MeterRegistry meterRegistry
+    ) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.hashTimer = meterRegistry.timer("password.hash");
+        this.rejected = meterRegistry.counter("password.hash.rejected");
+        this.dummyHash = encoder.encode("dummy-password");
+    }
+
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    // storedPassword 가 null 이면(없는 사용자) 더미 해시와 비교하고 false
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (storedPassword == null) {
+            submit(() -> encoder.matches(rawPassword, dummyHash));
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    // 평문이거나 설정보다 낮은 비용으로 만든 해시면 다시 저장한다
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    private static boolean isHashed(String storedPassword) {
+        return storedPassword.startsWith(BCRYPT_PREFIX);
+    }
+
+    private <T> T submit(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(work));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("password hashing failed", e.getCause());
+        }
+    }
+}
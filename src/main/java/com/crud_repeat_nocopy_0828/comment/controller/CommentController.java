@@ -0,0 +1,143 @@
+package com.crud_repeat_nocopy_0828.comment.controller;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentBulkCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentBulkCreateResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentSliceResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentUpdateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentWriteResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.comment.service.CommentWriteBehindBuffer;
+import com.crud_repeat_nocopy_0828.common.etag.VersionStamp;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimited;
+import com.crud_repeat_nocopy_0828.common.session.LoginUser;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleStamps;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CommentWriteBehindBuffer commentWriteBehindBuffer;
+    private final ScheduleStamps scheduleStamps;
+
+    // 댓글 생성
+    // 쓰기 지연 모드면 큐에 넣고 202 + handle (커밋까지 기다리는 설정이면 201 + handle)
+    @PostMapping("/schedules/{scheduleId}/comments")
+    @RateLimited("comment-create")
+    public ResponseEntity<?> create(
+            @PathVariable Long scheduleId,
+            @LoginUser Long loginUserId,
+            @Valid @RequestBody CommentCreateRequest request
+    ) {
+        if (commentWriteBehindBuffer.isEnabled()) {
+            CommentWriteResponse response = commentWriteBehindBuffer.submit(scheduleId, loginUserId, request.getContent());
+            HttpStatus status = response.getStatus() == CommentWriteResponse.Status.CREATED
+                    ? HttpStatus.CREATED
+                    : HttpStatus.ACCEPTED;
+            return ResponseEntity.status(status).body(response);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(commentService.create(scheduleId, loginUserId, request));
+    }
+
+    // 쓰기 지연 모드로 작성한 댓글의 처리 결과 조회
+    @GetMapping("/comments/pending/{handle}")
+    public ResponseEntity<CommentWriteResponse> findPending(@PathVariable String handle) {
+        return ResponseEntity.ok(commentWriteBehindBuffer.find(handle));
+    }
+
+    // 댓글 대량 생성 (가져오기/이관용)
+    @PostMapping("/schedules/{scheduleId}/comments/bulk")
+    @RateLimited("comment-bulk-create")
+    public ResponseEntity<CommentBulkCreateResponse> createAll(
+            @PathVariable Long scheduleId,
+            @LoginUser Long loginUserId,
+            @Valid @RequestBody CommentBulkCreateRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(commentService.createAll(scheduleId, loginUserId, request.getComments()));
+    }
+
+    // 한 일정에 속한 모든 댓글 조회
+    // 목록이 바뀌지 않았으면 본문 없이 304 (도장은 일정 엔티티에서 계산하므로 댓글 테이블을 읽지 않는다)
+    @GetMapping("/schedules/{scheduleId}/comments")
+    public ResponseEntity<List<CommentResponse>> findAllBySchedule(@PathVariable Long scheduleId, WebRequest webRequest) {
+        Optional<VersionStamp> stamp = scheduleStamps.forComments(scheduleId);
+        if (stamp.isPresent() && webRequest.checkNotModified(stamp.get().etag(), stamp.get().lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.findAllBySchedule(scheduleId));
+    }
+
+    // 한 일정에 속한 댓글을 커서 단위로 조회 (응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+    @GetMapping("/schedules/{scheduleId}/comments/feed")
+    public ResponseEntity<CommentSliceResponse> findSliceBySchedule(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(commentService.findSliceBySchedule(scheduleId, cursor, size));
+    }
+
+    // 변경분 동기화 : 처음엔 since(ISO-8601, 생략 시 전체)로, 이후엔 응답의 nextCursor 로 폴링
+    @GetMapping("/comments/changes")
+    public ResponseEntity<ChangesResponse<CommentResponse>> findChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Instant since,
+            @RequestParam(defaultValue = "" + ChangesResponse.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(commentService.findChanges(cursor, since, size));
+    }
+
+    // 댓글 수정. 다른 요청과 부딪혀 반영하지 못하면 409 + 현재 상태
+    @PutMapping("/comments/{id}")
+    @RateLimited("comment-update")
+    public ResponseEntity<CommentResponse> update(
+            @PathVariable Long id,
+            @LoginUser Long loginUserId,
+            @Valid @RequestBody CommentUpdateRequest request
+    ) {
+        return ResponseEntity.ok(commentService.update(id, loginUserId, request));
+    }
+
+    // 댓글 삭제
+    @DeleteMapping("/comments/{id}")
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @LoginUser Long loginUserId
+    ) {
+        commentService.delete(id, loginUserId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 단일 댓글 조회
+    @GetMapping("/comments/{id}")
+    public ResponseEntity<CommentResponse> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(commentService.findById(id));
+    }
+
+    // 사용자가 작성한 모든 댓글 조회
+    @GetMapping("/users/{userId}/comments")
+    public ResponseEntity<List<CommentResponse>> findAllByUser(@PathVariable Long userId) {
+        return ResponseEntity.ok(commentService.findAllByUser(userId));
+    }
+
+    // 사용자가 작성한 특정 댓글 조회
+    @GetMapping("/users/{userId}/comments/{commentId}")
+    public ResponseEntity<CommentResponse> findByUser(@PathVariable Long userId, @PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.findByUser(userId, commentId));
+    }
+}
@@ -0,0 +1,21 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkCreateRequest {
+
+    // 한 요청의 상한. 더 많으면 클라이언트가 나눠서 보낸다.
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid CommentCreateRequest> comments;
+}
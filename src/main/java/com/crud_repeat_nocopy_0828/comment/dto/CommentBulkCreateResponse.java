@@ -0,0 +1,17 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentBulkCreateResponse {
+
+    private final int createdCount;
+    private final List<Long> ids;
+
+    public CommentBulkCreateResponse(List<Long> ids) {
+        this.createdCount = ids.size();
+        this.ids = ids;
+    }
+}
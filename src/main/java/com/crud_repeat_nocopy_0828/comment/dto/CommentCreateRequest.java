@@ -0,0 +1,17 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCreateRequest {
+
+    @NotBlank
+    @Size(max = 500)    // Comment.content 컬럼 길이와 같게
+    private String content;
+}
@@ -0,0 +1,46 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class CommentResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String userName;
+    private final Long scheduleId;
+    private final String content;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final long version;     // 수정 요청(PUT)에 기대 버전으로 그대로 돌려보낸다
+
+    public CommentResponse(Long id, Long userId, String userName, Long scheduleId, String content,
+                           Instant createdAt, Instant updatedAt, long version) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.scheduleId = scheduleId;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    // 연관 엔티티는 LAZY 프록시지만 getId() 는 프록시 초기화(SELECT) 없이 FK 값만 돌려준다.
+    // getUserName() 은 프록시를 초기화하므로 목록에서는 Comment.withScheduleAndUser 그래프로 읽은 엔티티에만 쓴다.
+    public static CommentResponse from(Comment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getUser().getId(),
+                comment.getUser().getUserName(),
+                comment.getSchedule().getId(),
+                comment.getContent(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                comment.getVersion()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 응답
+ * nextCursor 가 null 이면 마지막 페이지.
+ * */
+@Getter
+public class CommentSliceResponse {
+
+    private final List<CommentResponse> comments;
+    private final String nextCursor;
+
+    public CommentSliceResponse(List<CommentResponse> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+}
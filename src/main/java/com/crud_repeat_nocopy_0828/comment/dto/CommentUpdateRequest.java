@@ -0,0 +1,20 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentUpdateRequest {
+
+    @NotBlank
+    @Size(max = 500)    // Comment.content 컬럼 길이와 같게
+    private String content;
+
+    // 기대 버전 (조회 응답의 version). 값이 있으면 그 사이 바뀐 경우 409, 없으면 충돌 시 재시도 후 덮어쓴다
+    private Long version;
+}
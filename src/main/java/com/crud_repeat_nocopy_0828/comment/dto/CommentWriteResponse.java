@@ -0,0 +1,35 @@
+package com.crud_repeat_nocopy_0828.comment.dto;
+
+import lombok.Getter;
+
+/**
+ * 쓰기 지연(write-behind) 모드의 댓글 작성 응답
+ * handle 은 임시 식별자. PENDING 이면 GET /comments/pending/{handle} 로 결과를 확인한다.
+ * */
+@Getter
+public class CommentWriteResponse {
+
+    public enum Status { PENDING, CREATED, FAILED }
+
+    private final String handle;
+    private final Status status;
+    private final Long commentId;   // CREATED 일 때만 있음
+
+    private CommentWriteResponse(String handle, Status status, Long commentId) {
+        this.handle = handle;
+        this.status = status;
+        this.commentId = commentId;
+    }
+
+    public static CommentWriteResponse pending(String handle) {
+        return new CommentWriteResponse(handle, Status.PENDING, null);
+    }
+
+    public static CommentWriteResponse created(String handle, Long commentId) {
+        return new CommentWriteResponse(handle, Status.CREATED, commentId);
+    }
+
+    public static CommentWriteResponse failed(String handle) {
+        return new CommentWriteResponse(handle, Status.FAILED, null);
+    }
+}
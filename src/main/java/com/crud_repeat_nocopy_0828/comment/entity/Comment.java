@@ -1,14 +1,17 @@
 package com.crud_repeat_nocopy_0828.comment.entity;
 
 import com.crud_repeat_nocopy_0828.common.entity.BaseEntity;
+import com.crud_repeat_nocopy_0828.feed.service.FeedListener;
 // BaseEntity 공통 필드(common.entity)에 있는 createdAt, updatedAt을/를 상속하려는 엔티티
 import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndexListener;
 import com.crud_repeat_nocopy_0828.user.entity.User;
 // 댓글 엔티티가 연관관계에 있는 일정과 사용자 엔티티
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Getter
 // 롬복이 모든 필드의 getter를 컴파일 시 자동 생성
@@ -41,6 +44,31 @@ import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 // 파라미터가 없는 기본 생성자를 자동 생성(JPA 리플렉션 용)
+@Table(
+        name = "comments",
+        indexes = {
+                @Index(name = "idx_comments_schedule_id_deleted_at_id", columnList = "schedule_id, deleted_at, id"),
+                @Index(name = "idx_comments_updated_at_id", columnList = "updated_at, id"),
+                @Index(name = "idx_comments_deleted_at_id", columnList = "deleted_at, id"),
+                @Index(name = "idx_comments_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_comments_user_id_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
+// 테이블명은 ReadMe_SQL.md 의 comments 와 맞춘다.
+// (schedule_id, deleted_at, id) 복합 인덱스 : 한 일정의 살아 있는 댓글을 id 순으로 이어서 읽는 키셋(커서) 페이지네이션용
+// (updated_at, id) 복합 인덱스 : 변경분 동기화(GET /comments/changes)를 키셋으로 이어서 읽는 용도
+// (deleted_at, id) 복합 인덱스 : 보관 기간이 지난 삭제 표시 행을 TombstonePurger 가 오래된 순으로 찾는 용도
+// (created_at, id), (user_id, created_at, id) 복합 인덱스 : 활동 피드가 메모리 버퍼 밖을 DB 에서 최신순 키셋으로 읽는 용도
+@SQLRestriction("deleted_at is null")
+// 삭제 표시된 댓글은 JPQL/파생 쿼리/id 조회 어디서든 자동으로 빠진다 (네이티브 쿼리는 직접 조건을 넣어야 함)
+
+/**
+ * 복합 인덱스 (schedule_id, deleted_at, id) 를 두는 이유
+ * WHERE schedule_id = ? AND deleted_at IS NULL AND id > ? ORDER BY id LIMIT ? 쿼리가
+ * 인덱스 한 구간만 순서대로 읽고 끝나기 때문에, 몇 번째 페이지든 첫 페이지와 비용이 같다.
+ * MySQL 은 부분 인덱스(WHERE deleted_at IS NULL)가 없어서, IS NULL 을 등치 조건처럼 쓰도록 가운데 컬럼으로 넣었다.
+ * OFFSET 페이징은 앞의 행을 모두 읽고 버려야 해서 뒤로 갈수록 느려진다.
+ * */
 
 /**
  * @NoArgsConstructor , @RequiredArgsConstructor
@@ -101,6 +129,15 @@ import lombok.NoArgsConstructor;
  * 접근 제어자는 protected 권장: 외부에서 의미 없이 빈 객체를 만드는 걸 막고, JPA는 내부적으로 접근 가능.
  * */
 
+@EntityListeners({SearchIndexListener.class, FeedListener.class})
+// 저장/수정/삭제를 검색 색인, 활동 피드에 반영
+@NamedEntityGraph(
+        name = "Comment.withScheduleAndUser",
+        attributeNodes = {@NamedAttributeNode("schedule"), @NamedAttributeNode("user")}
+)
+// 일정 제목/작성자 이름까지 필요한 경로에서 쓰는 페치 플랜.
+// 연관관계는 LAZY 로 두고, 필요한 쿼리에서만 이 그래프로 한 번에 조인해서 N + 1 을 막는다.
+
 public class Comment extends BaseEntity {
     /**
      * 이 클래스는 '댓글' 이라는 도메인 객체를 RDB 테이블과 연결하는 JPA 엔티티 이다.
@@ -111,20 +148,23 @@ public class Comment extends BaseEntity {
 
     @Id
     // 기본키 (PK)를 제공
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    // DB의 AUTO_INCREMENT를 써서 ID를 만듦
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "comments", allocationSize = 100)
+    // id_sequences 테이블에서 번호를 100개씩 미리 받아 두고(pooled) 메모리에서 나눠 쓴다.
+    // IDENTITY 와 달리 INSERT 전에 PK 를 알 수 있어서 하이버네이트가 INSERT 를 JDBC 배치로 묶을 수 있다.
     // ID 생성은 IDENTITY/SEQUENCE/TABLE/AUTO 가 있다.
 
     /**
      * 전략별 ID 생성(장단점 압축)
-     * 1) IDENTITY(지금 사용): DB가 즉석 번호 발급(AUTO_INCREMENT).
+     * 1) IDENTITY: DB가 즉석 번호 발급(AUTO_INCREMENT).
      *      ✔ 간단 / ❗ INSERT가 빨리 나가서 배치 최적화가 제한될 수 있음
      *
      * 2) SEQUENCE: 시퀀스 객체에서 번호를 미리 받아서 INSERT.
      *      ✔ 대량 저장/성능 유리(allocationSize 튜닝) / ❗ 시퀀스 없는 DB에선 불가
      *
-     * 3) TABLE: 번호용 테이블 사용.
-     *      ✔ 거의 모든 DB / ❗ 느림, 요즘 잘 안 씀
+     * 3) TABLE(지금 사용): 번호용 테이블 사용.
+     *      ✔ 거의 모든 DB(MySQL 포함) / ❗ allocationSize=1 이면 느림 → 크게 잡아 pooled 로 사용
      *
      * 4) AUTO: JPA가 DB 벤더 보고 자동 선택.
      *      ✔ 초기 편의 / ❗ 예측 어려워 실무에선 보통 명시
@@ -212,8 +252,9 @@ public class Comment extends BaseEntity {
      * */
 
     /// <<< ---- 연관관계에서 주인인 댓글 ---- >>>
-    @JoinColumn(name = "user_id", insertable = false, updatable = false, nullable = false)
+    @JoinColumn(name = "user_id", nullable = false)
     // FK 컬럼명은 user_id.
+    // insertable/updatable = false 로 두면 INSERT 에서 user_id 가 빠져 NOT NULL 위반이 나므로 쓰기 가능한 FK 로 둔다.
     private User user;
     // 코드 내에서는 Comment -> User 객체를 참조한다.
     // DB에서는 comment 테이블에 user_id 로 숫자 FK로 저장
@@ -301,6 +342,11 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
+    // 댓글 수정 (PUT /comments/{id}). 변경 감지 UPDATE 에 "where version = ?" 가 붙어서 동시 수정이 덮어써지지 않는다
+    public void update(String content) {
+        this.content = content;
+    }
+
     /**
      * “생성자에서 댓글을 유효한 상태로 만든다”는 의미
      * 유효한 상태 = 도메인 규칙을 만족하는 상태.
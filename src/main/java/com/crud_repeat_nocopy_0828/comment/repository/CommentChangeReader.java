@@ -0,0 +1,63 @@
+package com.crud_repeat_nocopy_0828.comment.repository;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeRow;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 변경분 동기화(/comments/changes) 읽기 : 수정된 댓글과 삭제 표시 댓글을 (updated_at, id) 순서로 한 번에
+ * 구성은 ScheduleChangeReader 와 같다. 작성자 이름은 users 와 한 번 조인해서 같은 SELECT 로 가져온다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class CommentChangeReader {
+
+    private static final String CHANGED_AFTER = "select c.id, c.user_id, u.user_name, c.schedule_id, c.content, "
+            + "c.created_at, c.updated_at, c.version, c.deleted_at from comments c join users u on u.id = c.user_id "
+            + "where c.updated_at >= :since and (c.updated_at > :since or c.id > :lastId) and c.updated_at < :until "
+            + "and (c.deleted_at is null or c.deleted_at >= :retainedSince) "
+            + "order by c.updated_at, c.id";
+
+    private final EntityManager em;
+
+    @SuppressWarnings("unchecked")
+    public List<ChangeRow<CommentResponse>> findChangedAfter(Instant since, long lastId, Instant until,
+                                                             Instant retainedSince, int limit) {
+        List<Object[]> rows = em.createNativeQuery(CHANGED_AFTER)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("user_id", StandardBasicTypes.LONG)
+                .addScalar("user_name", StandardBasicTypes.STRING)
+                .addScalar("schedule_id", StandardBasicTypes.LONG)
+                .addScalar("content", StandardBasicTypes.STRING)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("deleted_at", StandardBasicTypes.INSTANT)
+                .setParameter("since", since)
+                .setParameter("lastId", lastId)
+                .setParameter("until", until)
+                .setParameter("retainedSince", retainedSince)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(CommentChangeReader::toRow).toList();
+    }
+
+    private static ChangeRow<CommentResponse> toRow(Object[] r) {
+        Long id = (Long) r[0];
+        Instant updatedAt = (Instant) r[6];
+        Instant deletedAt = (Instant) r[8];
+        if (deletedAt != null) {
+            return new ChangeRow<>(id, updatedAt, deletedAt, null);
+        }
+        return new ChangeRow<>(id, updatedAt, null, new CommentResponse(id, (Long) r[1], (String) r[2], (Long) r[3],
+                (String) r[4], (Instant) r[5], updatedAt, (Long) r[7]));
+    }
+}
@@ -0,0 +1,141 @@
+package com.crud_repeat_nocopy_0828.comment.repository;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 조회는 전부 CommentResponse 프로젝션으로 받는다.
+     * 작성자 이름은 users 와 한 번 조인해서 같은 SELECT 로 가져온다 (행마다 사용자 SELECT 가 나가는 N + 1 방지).
+     * c.schedule.id 는 FK 컬럼을 그대로 읽으므로 schedules 조인은 없다.
+     * */
+    String RESPONSE = "select new com.crud_repeat_nocopy_0828.comment.dto.CommentResponse("
+            + "c.id, u.id, u.userName, c.schedule.id, c.content, c.createdAt, c.updatedAt, c.version) "
+            + "from Comment c join c.user u ";
+
+    // 활동 피드 (ActivityFeed 의 DB 경로). 키셋 조건은 ScheduleRepository.FEED_BEFORE 와 같다
+    String FEED = "select new com.crud_repeat_nocopy_0828.feed.dto.FeedItem("
+            + "c.id, c.schedule.id, u.id, u.userName, c.content, c.createdAt) from Comment c join c.user u ";
+    String FEED_BEFORE = "(c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :idBound)) "
+            + "order by c.createdAt desc, c.id desc";
+
+    // 전체 피드 (idx_comments_created_at_id)
+    @Query(FEED + "where " + FEED_BEFORE)
+    List<FeedItem> findFeedBefore(Instant createdAt, Long idBound, Limit limit);
+
+    // 한 사용자가 쓴 댓글 (idx_comments_user_id_created_at_id)
+    @Query(FEED + "where u.id = :userId and " + FEED_BEFORE)
+    List<FeedItem> findFeedByUserIdBefore(Long userId, Instant createdAt, Long idBound, Limit limit);
+
+    // 한 사용자의 일정에 다른 사람이 단 댓글. 그 사용자의 일정 수 × 댓글 수 안에서 정렬한다 (테이블 전체 크기와는 무관)
+    @Query(FEED + "join c.schedule s where s.user.id = :userId and u.id <> :userId and " + FEED_BEFORE)
+    List<FeedItem> findFeedOnSchedulesOfUserBefore(Long userId, Instant createdAt, Long idBound, Limit limit);
+
+    // 한 일정의 댓글 전체 (GET /schedules/{scheduleId}/comments)
+    @Query(RESPONSE + "where c.schedule.id = :scheduleId order by c.id")
+    List<CommentResponse> findAllResponsesByScheduleId(Long scheduleId);
+
+    // 키셋 페이지네이션 : WHERE schedule_id = ? AND id > ? ORDER BY id LIMIT ?
+    // idx_comments_schedule_id_deleted_at_id 인덱스 한 구간만 읽으므로 페이지 깊이와 상관없이 비용이 같다.
+    @Query(RESPONSE + "where c.schedule.id = :scheduleId and c.id > :lastId order by c.id")
+    List<CommentResponse> findSliceResponsesByScheduleId(Long scheduleId, Long lastId, Limit limit);
+
+    // id 키셋 배치 읽기 (검색 색인 재구성 등)
+    @Query(RESPONSE + "where c.id > :lastId order by c.id")
+    List<CommentResponse> findResponsesAfter(Long lastId, Limit limit);
+
+    @Query(RESPONSE + "where c.id = :id")
+    Optional<CommentResponse> findResponseById(Long id);
+
+    @Query(RESPONSE + "where u.id = :userId order by c.id")
+    List<CommentResponse> findAllResponsesByUserId(Long userId);
+
+    @Query(RESPONSE + "where u.id = :userId and c.id = :commentId")
+    Optional<CommentResponse> findResponseByUserIdAndId(Long userId, Long commentId);
+
+    // 엔티티가 필요한 경로(수정/삭제 후 응답 등)에서 일정과 작성자를 한 번의 조인으로 읽는다
+    @EntityGraph("Comment.withScheduleAndUser")
+    Optional<Comment> findWithScheduleAndUserById(Long id);
+
+    /**
+     * 대량 삭제용 id 청크 읽기
+     * 엔티티를 올리지 않고 id 만 키셋 순서로 잘라 읽은 뒤 softDeleteAllByIdIn 으로 한 번에 삭제 표시한다.
+     * 일정 쪽은 idx_comments_schedule_id_deleted_at_id, 작성자 쪽은 user_id FK 인덱스를 탄다.
+     * */
+    @Query("select c.id from Comment c where c.schedule.id in :scheduleIds order by c.id")
+    List<Long> findIdsByScheduleIdIn(Collection<Long> scheduleIds, Limit limit);
+
+    @Query("select c.id from Comment c where c.user.id = :userId order by c.id")
+    List<Long> findIdsByUserId(Long userId, Limit limit);
+
+    // 작성자 이름 전파용 키셋 청크 (idx_comments_user_id_created_at_id 의 user_id 구간)
+    @Query("select c.id from Comment c where c.user.id = :userId and c.id > :lastId order by c.id")
+    List<Long> findIdsByUserIdAfter(Long userId, Long lastId, Limit limit);
+
+    // 청크의 댓글이 달린 일정 (일정 id 순 : 일정 UPDATE 가 항상 같은 순서로 행 잠금을 잡게)
+    @Query("select distinct c.schedule.id from Comment c where c.id in :ids order by c.schedule.id")
+    List<Long> findScheduleIdsByIdIn(Collection<Long> ids);
+
+    // 지울 청크가 일정별로 몇 개씩인지 (다른 사람 일정의 comment_count 를 줄이기 위해)
+    // 일정 id 순으로 돌려줘서 카운터 UPDATE 가 항상 같은 순서로 행 잠금을 잡게 한다
+    @Query("select c.schedule.id, count(c) from Comment c where c.id in :ids group by c.schedule.id order by c.schedule.id")
+    List<Object[]> countByScheduleIdIn(Collection<Long> ids);
+
+    // UPDATE comments SET deleted_at = ?, updated_at = ? WHERE id IN (...) : 엔티티 로딩, FK 검사 없음
+    @Modifying
+    @Query("update Comment c set c.deletedAt = :now, c.updatedAt = :now where c.id in :ids")
+    int softDeleteAllByIdIn(Collection<Long> ids, Instant now);
+
+    /**
+     * 작성자 이름이 바뀐 댓글의 updated_at 만 옮긴다 (변경분 동기화가 새 이름을 가져가도록)
+     * 이름은 users 조인으로 읽으니 고칠 컬럼은 없다. 내용은 그대로라 version 은 올리지 않는다.
+     * */
+    @Modifying
+    @Query("update Comment c set c.updatedAt = :now where c.id in :ids")
+    int touchAllByIdIn(Collection<Long> ids, Instant now);
+
+    /*
+     * 여기부터는 TombstonePurger 전용 물리 삭제 쿼리
+     * @SQLRestriction 이 걸리지 않도록 네이티브 쿼리로 두고, 삭제 표시된 행도 포함해서 읽는다.
+     * */
+
+    // 보관 기간이 지난 삭제 표시 댓글 (idx_comments_deleted_at_id 범위 스캔)
+    @Query(value = "select id from comments where deleted_at < :cutoff order by deleted_at, id limit :limit",
+            nativeQuery = true)
+    List<Long> findTombstonedIds(Instant cutoff, int limit);
+
+    // 지워질 일정/회원에 남아 있는 댓글 (삭제 표시 여부와 상관없이)
+    @Query(value = "select id from comments where schedule_id in (:scheduleIds) limit :limit", nativeQuery = true)
+    List<Long> findAllIdsByScheduleIdIn(Collection<Long> scheduleIds, int limit);
+
+    @Query(value = "select id from comments where user_id = :userId limit :limit", nativeQuery = true)
+    List<Long> findAllIdsByUserId(Long userId, int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "delete from comments where id in (:ids)", nativeQuery = true)
+    int purgeAllByIdIn(Collection<Long> ids);
+
+    long countByScheduleId(Long scheduleId);
+
+    long countByUserId(Long userId);
+
+    // 회원이 쓴 댓글 + 회원의 일정들에 달린 댓글 수 (회원 탈퇴 작업 규모 추정). 내 일정에 내가 쓴 댓글은 한 번만 센다
+    @Query("select count(c) from Comment c join c.schedule s where c.user.id = :userId or s.user.id = :userId")
+    long countDeletableByUserId(Long userId);
+}
@@ -0,0 +1,121 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import com.crud_repeat_nocopy_0828.feed.service.ActivityFeed;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleCommentCounter;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 댓글 대량 삭제 (일정 삭제, 회원 탈퇴에서 사용)
+ * 엔티티를 한 건씩 읽어 remove 하지 않고, id 청크를 읽어 UPDATE ... SET deleted_at WHERE id IN (...) 한 번으로 삭제 표시한다.
+ * 청크 하나가 트랜잭션 하나라서 행 잠금을 오래 붙잡지 않고, 중간에 실패해도 표시한 만큼은 남는다.
+ * 실제 행 삭제는 TombstonePurger 가 나중에 한다.
+ *
+ * 벌크 UPDATE 는 엔티티 리스너를 타지 않으므로 검색 색인, 활동 피드는 여기서 직접 지운다.
+ * */
+@Component
+public class CommentBulkDeleter {
+
+    private final CommentRepository commentRepository;
+    private final ScheduleCommentCounter scheduleCommentCounter;
+    private final SearchIndex searchIndex;
+    private final ActivityFeed activityFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommentBulkDeleter(
+            CommentRepository commentRepository,
+            ScheduleCommentCounter scheduleCommentCounter,
+            SearchIndex searchIndex,
+            ActivityFeed activityFeed,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.deletion.chunk-size:1000}") int chunkSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.scheduleCommentCounter = scheduleCommentCounter;
+        this.searchIndex = searchIndex;
+        this.activityFeed = activityFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 곧 지워질 일정들에 달린 댓글 삭제
+     * 일정 자체가 사라지므로 comment_count 는 건드리지 않는다.
+     * */
+    public long deleteBySchedules(Collection<Long> scheduleIds, DeletionJob job) {
+        return deleteInChunks(limit -> commentRepository.findIdsByScheduleIdIn(scheduleIds, limit), false, job);
+    }
+
+    /**
+     * 한 회원이 쓴 댓글 삭제
+     * 다른 회원의 일정에 달린 댓글도 있으므로 청크마다 일정별 comment_count 를 함께 줄인다.
+     * */
+    public long deleteByUser(Long userId, DeletionJob job) {
+        return deleteInChunks(limit -> commentRepository.findIdsByUserId(userId, limit), true, job);
+    }
+
+    private long deleteInChunks(Function<Limit, List<Long>> nextIds, boolean adjustCounts, DeletionJob job) {
+        long total = 0;
+        while (true) {
+            // 삭제 표시한 행은 다음 조회에서 빠지므로(@SQLRestriction) 오프셋/커서 없이 항상 앞에서부터 읽으면 된다
+            // 끝은 UPDATE 결과가 아니라 id 조회가 비었는지로 판단한다 (다른 요청이 청크를 먼저 지워 0 건이어도 계속)
+            Chunk chunk = transactionTemplate.execute(
+                    status -> deleteChunk(nextIds.apply(Limit.of(chunkSize)), adjustCounts));
+            if (chunk == null || chunk.scanned() == 0) {
+                return total;
+            }
+            total += chunk.deleted();
+            job.addDeletedComments(chunk.deleted());
+        }
+    }
+
+    private Chunk deleteChunk(List<Long> ids, boolean adjustCounts) {
+        if (ids.isEmpty()) {
+            return new Chunk(0, 0);
+        }
+        if (adjustCounts) {
+            // 그 사이 다른 요청이 같은 댓글을 먼저 지웠다면 한 번 더 줄어들 수 있는데, 이는 CommentCountReconciler 가 맞춘다
+            for (Object[] row : commentRepository.countByScheduleIdIn(ids)) {
+                scheduleCommentCounter.add((Long) row[0], -(Long) row[1]);
+            }
+        }
+        int deleted = commentRepository.softDeleteAllByIdIn(ids, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        afterCommit(() -> {
+            searchIndex.delete(SearchIndex.TYPE_COMMENT, ids);
+            activityFeed.removeComments(ids);
+        });
+        return new Chunk(ids.size(), deleted);
+    }
+
+    // scanned : 읽은 id 수, deleted : 이번에 실제로 삭제 표시한 행 수
+    private record Chunk(int scanned, int deleted) {
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleCommentCounter;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 쓰기 지연 큐에서 모은 댓글 묶음을 하나의 트랜잭션으로 저장한다 (그룹 커밋)
+ * 건마다 커밋(fsync)하던 것을 묶음당 한 번으로 줄이고, INSERT 는 JDBC 배치로 나간다.
+ * 댓글 수 증가도 일정별로 합쳐서 일정당 UPDATE 한 번만 보낸다.
+ * */
+@Component
+@RequiredArgsConstructor
+class CommentGroupWriter {
+
+    private final EntityManager em;
+    private final ScheduleCommentCounter scheduleCommentCounter;
+
+    @Transactional
+    public List<Long> write(List<PendingComment> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        // 일정 id 순으로 UPDATE 해서 동시에 도는 다른 트랜잭션과 잠금 순서를 맞춘다 (데드락 방지)
+        Map<Long, Long> countsBySchedule = new TreeMap<>();
+        for (PendingComment pending : batch) {
+            Comment comment = new Comment(
+                    em.getReference(Schedule.class, pending.scheduleId()),
+                    em.getReference(User.class, pending.userId()),
+                    pending.content());
+            em.persist(comment);
+            ids.add(comment.getId());
+            countsBySchedule.merge(pending.scheduleId(), 1L, Long::sum);
+        }
+        em.flush();
+        countsBySchedule.forEach(scheduleCommentCounter::add);
+        return ids;
+    }
+}
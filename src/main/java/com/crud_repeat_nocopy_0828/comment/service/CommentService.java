@@ -0,0 +1,206 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentBulkCreateResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentSliceResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentUpdateRequest;
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentChangeReader;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.common.concurrency.ConflictException;
+import com.crud_repeat_nocopy_0828.common.concurrency.OptimisticRetry;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeCursorCodec;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeRow;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.common.pagination.CursorCodec;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleCommentCounter;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String CHANGES_SCOPE = "comments";
+
+    private final CommentRepository commentRepository;
+    private final CommentChangeReader commentChangeReader;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ScheduleCommentCounter scheduleCommentCounter;
+    private final OptimisticRetry optimisticRetry;
+    private final EntityManager em;
+
+    // JDBC 배치 크기와 같게 맞춰서 배치 하나가 찰 때마다 flush + clear 한다
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    // ScheduleService.settleLagMs 와 같은 값
+    @Value("${app.sync.settle-lag-ms:2000}")
+    private long settleLagMs;
+
+    // 삭제 표시 보관 기간 (TombstonePurger 와 같은 값). 이보다 오래된 커서는 그 사이 삭제를 놓쳤을 수 있다
+    @Value("${app.soft-delete.retention:P1D}")
+    private Duration retention;
+
+    @Transactional
+    public CommentResponse create(Long scheduleId, Long loginUserId, CommentCreateRequest request) {
+        Comment comment = new Comment(findSchedule(scheduleId), userReference(loginUserId), request.getContent());
+        Comment saved = commentRepository.save(comment);
+        scheduleCommentCounter.add(scheduleId, 1);
+        return CommentResponse.from(saved);
+    }
+
+    /**
+     * 댓글 대량 생성
+     * ID 는 id_sequences 에서 묶음으로 미리 받아 두기 때문에(pooled) INSERT 가 JDBC 배치로 묶여 나간다.
+     * batchSize 마다 flush + clear 해서 영속성 컨텍스트가 수천 건의 엔티티를 붙잡고 있지 않게 한다.
+     * */
+    @Transactional
+    public CommentBulkCreateResponse createAll(Long scheduleId, Long loginUserId, List<CommentCreateRequest> requests) {
+        Schedule schedule = findSchedule(scheduleId);
+        User user = userReference(loginUserId);
+
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Comment comment = new Comment(schedule, user, requests.get(i).getContent());
+            em.persist(comment);
+            ids.add(comment.getId());   // TABLE 전략이라 persist 시점에 id 가 이미 정해져 있다
+
+            if ((i + 1) % batchSize == 0) {
+                em.flush();
+                em.clear();
+                // clear 로 detach 된 연관 엔티티를 다시 참조로 붙인다 (SELECT 없음)
+                schedule = em.getReference(Schedule.class, scheduleId);
+                user = em.getReference(User.class, loginUserId);
+            }
+        }
+        scheduleCommentCounter.add(scheduleId, ids.size());
+        return new CommentBulkCreateResponse(ids);
+    }
+
+    @Transactional
+    public void delete(Long id, Long loginUserId) {
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+        if (!comment.getUser().getId().equals(loginUserId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 작성한 댓글만 삭제할 수 있습니다.");
+        }
+        Long scheduleId = comment.getSchedule().getId();
+        comment.softDelete();   // DELETE 대신 삭제 표시 UPDATE 한 건 (실제 행은 TombstonePurger 가 지운다)
+        scheduleCommentCounter.add(scheduleId, -1);
+    }
+
+    /**
+     * 댓글 수정 (낙관적 잠금, ScheduleService.update 와 같은 방식)
+     * 댓글 목록 ETag 가 바뀌도록 일정의 updated_at 도 옮긴다 (댓글 수는 그대로).
+     * */
+    public CommentResponse update(Long id, Long loginUserId, CommentUpdateRequest request) {
+        // 댓글은 2차 캐시 대상이 아니라서 페치 조인 쿼리가 매번 DB 의 현재 버전을 읽는다 (retrying 과 상관없음)
+        return optimisticRetry.execute(retrying -> {
+            Comment comment = commentRepository.findWithScheduleAndUserById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+            if (!comment.getUser().getId().equals(loginUserId)) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 작성한 댓글만 수정할 수 있습니다.");
+            }
+            if (request.getVersion() != null && request.getVersion() != comment.getVersion()) {
+                throw new ConflictException("댓글이 그 사이 수정되었습니다. 현재 상태를 확인하고 다시 요청해 주세요.",
+                        CommentResponse.from(comment));
+            }
+            comment.update(request.getContent());
+            commentRepository.flush();      // 버전 충돌을 재시도 안에서 확인하기 위해 커밋 전에 UPDATE 를 내보낸다
+            scheduleCommentCounter.touch(comment.getSchedule().getId());
+            return CommentResponse.from(comment);
+        }, () -> new ConflictException("다른 요청이 먼저 댓글을 수정했습니다.",
+                commentRepository.findResponseById(id).orElse(null)));
+    }
+
+    // 조회는 프로젝션만 쓰므로 영속성 컨텍스트에 엔티티가 올라가지 않는다
+    @Transactional(readOnly = true)
+    public List<CommentResponse> findAllBySchedule(Long scheduleId) {
+        return commentRepository.findAllResponsesByScheduleId(scheduleId);
+    }
+
+    /**
+     * 키셋(커서) 페이지 조회
+     * size + 1 개를 읽어서 다음 페이지가 있는지 판단한다. (COUNT 쿼리 없음)
+     * */
+    @Transactional(readOnly = true)
+    public CommentSliceResponse findSliceBySchedule(Long scheduleId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long lastId = CursorCodec.decode(cursor, scheduleId);
+
+        List<CommentResponse> rows = commentRepository.findSliceResponsesByScheduleId(
+                scheduleId, lastId, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? CursorCodec.encode(scheduleId, page.get(page.size() - 1).getId())
+                : null;
+
+        return new CommentSliceResponse(page, nextCursor);
+    }
+
+    // since(또는 이전 응답의 cursor) 이후 바뀐 댓글을 (updated_at, id) 순으로 읽는다
+    @Transactional(readOnly = true)
+    public ChangesResponse<CommentResponse> findChanges(String cursor, Instant since, int size) {
+        int pageSize = Math.min(Math.max(size, 1), ChangesResponse.MAX_PAGE_SIZE);
+        ChangeCursorCodec.Position from = ChangeCursorCodec.decode(cursor, CHANGES_SCOPE, since);
+        Instant until = Instant.now().minusMillis(settleLagMs);
+
+        Instant retainedSince = Instant.now().minus(retention);
+        ChangeCursorCodec.requireRetained(from, retainedSince);
+
+        List<ChangeRow<CommentResponse>> rows = commentChangeReader.findChangedAfter(
+                from.updatedAt(), from.lastId(), until, retainedSince, pageSize + 1);
+        return ChangesResponse.of(rows, pageSize, CHANGES_SCOPE, from, until);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentResponse findById(Long id) {
+        return commentRepository.findResponseById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommentResponse> findAllByUser(Long userId) {
+        return commentRepository.findAllResponsesByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentResponse findByUser(Long userId, Long commentId) {
+        return commentRepository.findResponseByUserIdAndId(userId, commentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+    }
+
+    private Schedule findSchedule(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId)
+                .filter(schedule -> !schedule.isDeleted())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+    }
+
+    // 로그인 사용자는 세션에서 확인된 id 라서 SELECT 없이 프록시 참조만 쓴다
+    private User userReference(Long loginUserId) {
+        return userRepository.getReferenceById(loginUserId);
+    }
+}
@@ -0,0 +1,259 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentWriteResponse;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 댓글 작성 쓰기 지연(write-behind) 버퍼 (app.comment.write-behind.enabled=true 일 때만 동작)
+ *
+ * 1) 요청은 크기가 정해진 큐에 넣고 임시 handle 을 돌려준다.
+ * 2) 전용 스레드가 큐에서 batch-size 만큼, 또는 첫 건 이후 linger-ms 동안 모은 묶음을 한 트랜잭션으로 저장한다.
+ * 3) 큐가 가득 차면 offer-timeout-ms 만큼 기다리다 503 으로 거절한다 (backpressure).
+ * 4) 종료 시 새 요청을 막고 큐에 남은 댓글을 모두 저장한 뒤 멈춘다.
+ *    요청은 running 확인과 큐 넣기를 읽기 잠금 안에서 하고, 종료는 쓰기 잠금으로 running 을 내린다.
+ *    그래서 running 이 내려간 뒤에는 큐에 새로 들어오는 댓글이 없고, 받아 준 댓글은 모두 flusher 가 저장한다.
+ *    종료 순서는 graceful shutdown(진행 중인 요청 마무리)과 웹 서버 정지가 끝난 뒤다 (PHASE).
+ *
+ * durability
+ *  ACKNOWLEDGED : 큐에 들어가면 바로 202 (프로세스가 비정상 종료되면 큐에 있던 댓글은 유실될 수 있음)
+ *  COMMITTED    : 자기 묶음이 커밋될 때까지 기다렸다가 201 (유실 없음, 커밋 횟수만 묶음 단위로 줄어듦)
+ * */
+@Slf4j
+@Component
+public class CommentWriteBehindBuffer implements SmartLifecycle {
+
+    public enum Durability { ACKNOWLEDGED, COMMITTED }
+
+    // 웹 서버보다 먼저 시작하고, graceful shutdown 과 웹 서버 정지보다 나중에 멈춘다
+    // (WebServerGracefulShutdownLifecycle 보다 낮고, 그보다 1024 낮은 WebServerStartStopLifecycle 보다도 낮은 단계)
+    static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private final CommentGroupWriter commentGroupWriter;
+    private final ScheduleRepository scheduleRepository;
+
+    private final boolean enabled;
+    private final Durability durability;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutMs;
+    private final long commitTimeoutMs;
+
+    private final BlockingQueue<PendingComment> queue;
+    // handle → 결과. 클라이언트가 확인할 시간만큼만 보관하고 크기를 제한한다.
+    private final Cache<String, CommentWriteResponse> results = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CommentWriteBehindBuffer(
+            CommentGroupWriter commentGroupWriter,
+            ScheduleRepository scheduleRepository,
+            @Value("${app.comment.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.comment.write-behind.durability:ACKNOWLEDGED}") Durability durability,
+            @Value("${app.comment.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.comment.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.comment.write-behind.linger-ms:20}") long lingerMs,
+            @Value("${app.comment.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+            @Value("${app.comment.write-behind.commit-timeout-ms:2000}") long commitTimeoutMs
+    ) {
+        this.commentGroupWriter = commentGroupWriter;
+        this.scheduleRepository = scheduleRepository;
+        this.enabled = enabled;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.commitTimeoutMs = commitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CommentWriteResponse submit(Long scheduleId, Long userId, String content) {
+        if (!running) {
+            throw stopped();
+        }
+        // 없는 일정은 큐에 넣기 전에 걸러서, 나중에 묶음 저장이 실패하는 일을 줄인다 (2차 캐시 조회)
+        if (scheduleRepository.findById(scheduleId).filter(schedule -> !schedule.isDeleted()).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다.");
+        }
+
+        String handle = UUID.randomUUID().toString();
+        PendingComment pending = new PendingComment(handle, scheduleId, userId, content, new CompletableFuture<>());
+        results.put(handle, CommentWriteResponse.pending(handle));
+        lifecycleLock.readLock().lock();
+        try {
+            // 일정 확인 사이에 종료가 시작됐을 수 있으니 잠금 안에서 다시 본다
+            if (!running) {
+                results.invalidate(handle);
+                throw stopped();
+            }
+            if (!offer(pending)) {
+                results.invalidate(handle);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해 주세요.");
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        if (durability == Durability.ACKNOWLEDGED) {
+            return CommentWriteResponse.pending(handle);
+        }
+        try {
+            return CommentWriteResponse.created(handle, pending.result().get(commitTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // 아직 커밋 전. 클라이언트는 handle 로 다시 확인한다.
+            return CommentWriteResponse.pending(handle);
+        } catch (ExecutionException e) {
+            return CommentWriteResponse.failed(handle);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CommentWriteResponse.pending(handle);
+        }
+    }
+
+    public CommentWriteResponse find(String handle) {
+        CommentWriteResponse response = results.getIfPresent(handle);
+        if (response == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "처리 내역을 찾을 수 없습니다.");
+        }
+        return response;
+    }
+
+    private static ResponseStatusException stopped() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "댓글 작성을 일시적으로 받을 수 없습니다.");
+    }
+
+    private boolean offer(PendingComment pending) {
+        try {
+            return queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runFlusher() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐가 빌 때까지 계속 저장한다 (drain)
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingComment next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 중 인터럽트여도 남은 건 저장해야 하므로 루프 조건으로만 판단한다
+                Thread.interrupted();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+        try {
+            complete(batch, commentGroupWriter.write(batch));
+        } catch (RuntimeException e) {
+            // 묶음 중 한 건 때문에 전체가 롤백됐을 수 있으니 한 건씩 다시 저장해서 실패한 건만 골라낸다
+            log.warn("comment group commit failed ({} rows), retrying one by one", batch.size(), e);
+            for (PendingComment pending : batch) {
+                try {
+                    complete(List.of(pending), commentGroupWriter.write(List.of(pending)));
+                } catch (RuntimeException single) {
+                    results.put(pending.handle(), CommentWriteResponse.failed(pending.handle()));
+                    pending.result().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private void complete(List<PendingComment> batch, List<Long> ids) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingComment pending = batch.get(i);
+            results.put(pending.handle(), CommentWriteResponse.created(pending.handle(), ids.get(i)));
+            pending.result().complete(ids.get(i));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "comment-write-behind");
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        // 큐에 넣는 중인 요청(읽기 잠금)이 끝나기를 기다렸다가 내린다. 이후 들어오는 요청은 503
+        lifecycleLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("comment write-behind stopped with {} unsaved comments", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import java.util.concurrent.CompletableFuture;
+
+// 쓰기 지연 큐에 들어간 댓글 한 건. result 는 INSERT 가 커밋되면 댓글 id 로 완료된다.
+record PendingComment(String handle, Long scheduleId, Long userId, String content, CompletableFuture<Long> result) {
+}
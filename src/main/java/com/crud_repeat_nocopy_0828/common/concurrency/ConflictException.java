@@ -0,0 +1,18 @@
+package com.crud_repeat_nocopy_0828.common.concurrency;
+
+import lombok.Getter;
+
+/**
+ * 수정 충돌 (409)
+ * 클라이언트가 다시 고칠 수 있게 현재 상태(current)를 같이 돌려준다.
+ * */
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final Object current;
+
+    public ConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+}
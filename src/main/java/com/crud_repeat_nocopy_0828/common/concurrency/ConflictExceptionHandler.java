@@ -0,0 +1,17 @@
+package com.crud_repeat_nocopy_0828.common.concurrency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// ResponseStatusException 은 본문을 실을 수 없어서 409 만 따로 응답을 만든다
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ConflictResponse> handle(ConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ConflictResponse(e.getMessage(), e.getCurrent()));
+    }
+}
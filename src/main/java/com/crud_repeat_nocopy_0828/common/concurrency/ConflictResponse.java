@@ -0,0 +1,12 @@
+package com.crud_repeat_nocopy_0828.common.concurrency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ConflictResponse {
+
+    private final String message;
+    private final Object current;   // 지금 저장되어 있는 상태 (version 포함)
+}
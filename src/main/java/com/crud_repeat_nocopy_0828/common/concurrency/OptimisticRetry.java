@@ -0,0 +1,101 @@
+package com.crud_repeat_nocopy_0828.common.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 잠금 충돌 시 재시도
+ * 시도마다 새 트랜잭션에서 "읽고 → 고치고 → 커밋(UPDATE ... WHERE version = ?)" 을 다시 한다.
+ * 잠금을 잡지 않으므로 같은 일정을 고치는 요청끼리 줄 세우지 않고, 실제로 부딪힌 경우에만 다시 읽는다.
+ *
+ * 같은 값을 다시 써도 결과가 같은(멱등) 수정에만 쓴다.
+ * 요청이 기대 버전을 들고 온 경우는 다시 읽은 엔티티의 버전이 달라져 있으므로 재시도 안에서 409 로 끝난다.
+ *
+ * 2차 캐시의 버전은 다른 인스턴스의 쓰기보다 늦을 수 있다. 버전을 직접 비교하는 경우(기대 버전이 있을 때)와
+ * 충돌 뒤 다시 읽는 경우(work 의 retrying = true)에는 findFresh 로 DB 에서 읽는다.
+ * 캐시 우회 힌트는 그 find 호출에만 걸리고, 요청 내내 공유되는 EntityManager(open-in-view)에는 남지 않는다.
+ * */
+@Slf4j
+@Component
+public class OptimisticRetry {
+
+    private static final Map<String, Object> BYPASS_CACHE =
+            Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager em;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    @Value("${app.optimistic.max-attempts:3}")
+    private int maxAttempts;
+
+    // 재시도 전 대기 상한. 실제 대기는 0 ~ (시도 횟수 × 이 값) 사이 무작위 (같이 부딪힌 요청끼리 다시 부딪히지 않게)
+    @Value("${app.optimistic.backoff-ms:5}")
+    private long backoffMs;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager, EntityManager em, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.em = em;
+        this.conflicts = meterRegistry.counter("optimistic.lock.conflicts");
+        this.exhausted = meterRegistry.counter("optimistic.lock.exhausted");
+    }
+
+    /**
+     * work 를 트랜잭션 안에서 실행하고, 버전 충돌이면 maxAttempts 까지 다시 실행한다.
+     * 끝까지 충돌하면 onExhausted 가 돌려준 예외(보통 현재 상태를 담은 409)를 던진다.
+     * */
+    public <T> T execute(Work<T> work, Supplier<? extends RuntimeException> onExhausted) {
+        for (int attempt = 1; ; attempt++) {
+            boolean retrying = attempt > 1;
+            try {
+                return transactionTemplate.execute(status -> work.run(retrying));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.debug("optimistic lock retries exhausted after {} attempts: {}", attempt, e.getMessage());
+                    throw onExhausted.get();
+                }
+                pause(attempt);
+            }
+        }
+    }
+
+    // 2차 캐시를 건너뛰고 DB 에서 id 로 읽는다 (현재 트랜잭션 안에서 호출)
+    public <E> Optional<E> findFresh(Class<E> type, Object id) {
+        return Optional.ofNullable(em.find(type, id, BYPASS_CACHE));
+    }
+
+    @FunctionalInterface
+    public interface Work<T> {
+
+        // retrying : 버전 충돌 뒤 다시 실행하는 중이면 true
+        T run(boolean retrying);
+    }
+
+    private void pause(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
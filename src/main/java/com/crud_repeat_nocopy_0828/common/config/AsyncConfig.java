@@ -0,0 +1,55 @@
+package com.crud_repeat_nocopy_0828.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 대량 삭제 전용 스레드 풀. 동시에 도는 삭제 작업 수를 묶어서 DB 커넥션을 과하게 잡지 않게 한다.
+    @Bean
+    public ThreadPoolTaskExecutor deletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("deletion-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // 작성자 이름 전파(Schedule.userName) 전용. 스레드 하나로 돌려서 이름 변경이 몰려도 UPDATE 가 한 줄로 나간다
+    @Bean
+    public ThreadPoolTaskExecutor authorNameExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("author-name-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시/검증 전용 스레드 풀
+     * BCrypt 는 일부러 느린(CPU 수십 ms) 연산이라 요청 스레드에서 돌리면 로그인 폭주가 다른 API 의 스레드를 다 잡아먹는다.
+     * 스레드 수를 CPU 코어 수 이하로 묶고, 대기열이 차면 기다리지 않고 바로 거절(TaskRejectedException → 503)한다.
+     * */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.password.threads:0}") int threads,
+            @Value("${app.password.queue-capacity:64}") int queueCapacity
+    ) {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-");
+        return executor;
+    }
+}
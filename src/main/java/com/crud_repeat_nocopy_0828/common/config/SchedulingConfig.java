@@ -0,0 +1,10 @@
+package com.crud_repeat_nocopy_0828.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+// @Scheduled 배치 작업(댓글 수 보정 등)을 켠다
+public class SchedulingConfig {
+}
@@ -0,0 +1,58 @@
+package com.crud_repeat_nocopy_0828.common.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드 전용 동시 요청 수 제한 (bulkhead)
+ * 플랫폼 스레드 모드에서는 톰캣 스레드 풀 크기가 자연스럽게 동시 요청 수를 막아 주지만,
+ * 가상 스레드에서는 그 제한이 없어서 수천 개의 요청이 HikariCP 커넥션 대기열에 몰린다.
+ * 세마포어로 동시 처리 수를 묶고, 자리가 없으면 기다리다 503 으로 돌려준다.
+ * */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public VirtualThreadConcurrencyLimitFilter(
+            @Value("${app.virtual-threads.max-concurrent-requests:100}") int maxConcurrentRequests,
+            @Value("${app.virtual-threads.acquire-timeout-ms:1000}") long acquireTimeoutMs
+    ) {
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
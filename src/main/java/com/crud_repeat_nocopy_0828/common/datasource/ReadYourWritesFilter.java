@@ -0,0 +1,29 @@
+package com.crud_repeat_nocopy_0828.common.datasource;
+
+import com.crud_repeat_nocopy_0828.common.session.LoginUsers;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청 스레드에 로그인 사용자를 묶어서 ReadYourWritesTracker 가 쓸 수 있게 한다
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        tracker.bind(LoginUsers.find(request));    // 세션 방식이든 토큰 방식이든 같은 사용자 id
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tracker.unbind();
+        }
+    }
+}
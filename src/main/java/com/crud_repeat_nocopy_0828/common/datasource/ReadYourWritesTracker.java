@@ -0,0 +1,46 @@
+package com.crud_repeat_nocopy_0828.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 자기가 쓴 데이터는 바로 읽히게 하는 장치 (read-your-writes)
+ * 요청마다 로그인 사용자를 스레드에 묶어 두고(ReadYourWritesFilter),
+ * 그 사용자가 쓰기 트랜잭션을 실행하면 stickyWindow 동안 조회도 주 DB 로 보낸다.
+ * 사용자 단위로 기억하므로 같은 사용자의 다른 기기/세션에도 적용된다.
+ * */
+public class ReadYourWritesTracker {
+
+    private final ThreadLocal<Long> currentUser = new ThreadLocal<>();
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void bind(Long userId) {
+        currentUser.set(userId);
+    }
+
+    public void unbind() {
+        currentUser.remove();
+    }
+
+    // 쓰기 트랜잭션이 커밋된 직후 호출된다 (ReplicaRoutingDataSource)
+    public void recordWrite() {
+        Long userId = currentUser.get();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        Long userId = currentUser.get();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.crud_repeat_nocopy_0828.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정 (app.datasource.*)
+ * 주 DB 는 그대로 spring.datasource 를 쓴다.
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaDataSourceProperties {
+
+    // 쓰기 직후 이 시간 동안은 그 사용자의 조회도 주 DB 로 보낸다 (복제 지연보다 길게)
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private long connectionTimeoutMs = 1000;
+    }
+}
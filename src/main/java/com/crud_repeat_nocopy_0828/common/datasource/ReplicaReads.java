@@ -0,0 +1,26 @@
+package com.crud_repeat_nocopy_0828.common.datasource;
+
+/**
+ * 현재 스레드가 복제본에서 읽었는지 표시 (ReplicaRoutingDataSource 가 복제본 커넥션을 내줄 때 찍는다)
+ * 읽은 값을 노드 공용/장기 캐시에 넣는 쪽이 쓴다 : reset() → 로딩 → happened() 면 캐시에 넣지 않는다.
+ * 복제본 라우팅을 안 쓰면(기본) 항상 false 다.
+ * */
+public final class ReplicaReads {
+
+    private static final ThreadLocal<Boolean> READ = new ThreadLocal<>();
+
+    private ReplicaReads() {
+    }
+
+    static void mark() {
+        READ.set(Boolean.TRUE);
+    }
+
+    public static void reset() {
+        READ.remove();
+    }
+
+    public static boolean happened() {
+        return READ.get() != null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.crud_repeat_nocopy_0828.common.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 라우팅
+ * readOnly 트랜잭션 → 살아 있는 복제본을 돌아가며(round robin), 그 외(쓰기, 트랜잭션 밖) → 주 DB.
+ * 방금 쓴 사용자의 조회(ReadYourWritesTracker)도 주 DB 로 보낸다.
+ *
+ * 트랜잭션의 readOnly 표시는 커넥션을 실제로 잡는 시점에야 정해지므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 때 커넥션을 고르게 해야 한다.
+ *
+ * 복제본 커넥션을 못 얻으면 그 복제본을 내리고(down) 다음 복제본, 모두 내려가 있으면 주 DB 로 넘어간다.
+ * 내려간 복제본은 ReplicaHealthChecker 가 주기적으로 확인해서 다시 올린다.
+ *
+ * 복제본은 주 DB 보다 늦을 수 있으므로, 복제본에서 읽은 값이 모든 노드가 같이 보는 캐시의 진실이 되지 않게 한다.
+ * - 2차 캐시 : 복제본으로 간 트랜잭션의 세션은 캐시에 넣지 않는다 (CacheStoreMode.BYPASS, 트랜잭션이 끝나면 원래대로)
+ * - 그 밖의 캐시(VersionStampCache 등) : ReplicaReads 로 복제본에서 읽었는지 확인하고 넣지 않는다
+ * */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker tracker;
+    private final Set<String> down = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, ReadYourWritesTracker tracker) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = new ArrayList<>(replicas.keySet());
+        this.tracker = tracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteAfterCommit();
+            return PRIMARY;
+        }
+        if (tracker.mustReadPrimary()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        while (!PRIMARY.equals(key)) {
+            try {
+                Connection connection = replicas.get(key).getConnection();
+                onReplicaRead();
+                return connection;
+            } catch (SQLException e) {
+                markDown(key, e);
+                key = nextHealthyReplica();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    // 내려간 복제본을 하나씩 확인해서 응답하면 다시 올린다
+    public void checkReplicas() {
+        replicas.forEach((key, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (connection.isValid(1)) {
+                    if (down.remove(key)) {
+                        log.info("replica {} is back", key);
+                    }
+                } else {
+                    markDown(key, null);
+                }
+            } catch (SQLException e) {
+                markDown(key, e);
+            }
+        });
+    }
+
+    public int healthyReplicaCount() {
+        return replicaKeys.size() - down.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // 쓰기는 커밋된 뒤에야 주 DB 에서 보이므로, 고정 시간(sticky window)도 커밋 시점부터 센다 (롤백이면 기록하지 않음)
+    private void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite();
+            }
+        });
+    }
+
+    private void onReplicaRead() {
+        ReplicaReads.mark();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                bypassCacheStoreUntilCompletion(holder.getEntityManager().unwrap(Session.class));
+            }
+        }
+    }
+
+    // open-in-view 로 요청 내내 같은 세션을 쓰므로, 이 트랜잭션이 끝나면 원래 모드로 돌려놓는다
+    private static void bypassCacheStoreUntilCompletion(Session session) {
+        CacheStoreMode previous = session.getCacheStoreMode();
+        if (previous == CacheStoreMode.BYPASS) {
+            return;
+        }
+        session.setCacheStoreMode(CacheStoreMode.BYPASS);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.setCacheStoreMode(previous);
+                }
+            }
+        });
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), size));
+            if (!down.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markDown(String key, SQLException cause) {
+        if (down.add(key)) {
+            log.warn("replica {} marked down, reads fail over to {}", key,
+                    healthyReplicaCount() > 0 ? "other replicas" : PRIMARY, cause);
+        }
+    }
+}
@@ -6,7 +6,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.time.LocalDate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @MappedSuperclass
@@ -19,12 +20,34 @@ public abstract class BaseEntity {
     @CreatedDate                                    // INSERT 시 1회 자동 세팅
     @Column(name = "created_at", updatable = false)
     // 공통 필드 (1)
-    private LocalDate createdAt;                    // LocalDate라 시·분·초가 없어서 같은 날 여러 번 수정해도 값이 같을 수 있습니다.
+    private Instant createdAt;                      // UTC 기준 시각, 마이크로초 단위까지 저장 (MySQL datetime(6))
 
     @LastModifiedDate                               // UPDATE 시 자동 갱신됩니다.
     @Column(name = "updated_at")
     // 공통 필드 (2)
-    private LocalDate updatedAt;
+    private Instant updatedAt;                      // 변경분 동기화(/changes)의 키셋 정렬 기준 (updated_at, id)
+
+    @Version
+    @Column(name = "version", nullable = false)
+    // 공통 필드 (4) : 낙관적 잠금 버전. 더티 체킹 UPDATE 마다 1 씩 오르고, ETag 계산에도 쓴다 (네이티브/벌크 UPDATE 는 올리지 않음)
+    private long version;
+
+    @Column(name = "deleted_at")
+    // 공통 필드 (3) : 삭제 표시(tombstone). 값이 있으면 삭제된 행이고, 엔티티의 @SQLRestriction 으로 모든 조회에서 빠진다.
+    // 실제 행 삭제는 TombstonePurger 가 보관 기간이 지난 뒤 한가한 시간에 묶음으로 한다.
+    private Instant deletedAt;
+
+    // 요청 경로의 삭제는 이 표시만 남긴다 (UPDATE 한 건, FK 검사/잠금 없음)
+    public void softDelete() {
+        if (deletedAt == null) {
+            deletedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+
+    // 2차 캐시 적중은 @SQLRestriction 을 거치지 않으므로, id 로 읽은 엔티티는 이 값으로 한 번 더 거른다
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
 
 // 스파르타 강의 : 챕터 2-8  : 객체지향 PART 2 - 상속
@@ -5,8 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-import java.time.LocalDate;
-import java.time.ZoneId;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 @Configuration
@@ -16,7 +16,8 @@ public class JpaConfig {
 
     @Bean
     public DateTimeProvider auditingDateProvider() {
-        // 감사 필드(LocalDate)용 — 한국 시간대의 '오늘' 날짜를 사용
-        return () -> Optional.of(LocalDate.now(ZoneId.of("Asia/Seoul")));
+        // 감사 필드(Instant)용 — 컬럼 정밀도(마이크로초)에 맞춰 잘라서, 메모리의 값과 DB 에 저장된 값이 같게 한다
+        // (동기화 커서에 들어가는 값이 저장 후 다시 읽은 값과 달라지지 않도록)
+        return () -> Optional.of(Instant.now().truncatedTo(ChronoUnit.MICROS));
     }
 }
@@ -0,0 +1,8 @@
+package com.crud_repeat_nocopy_0828.common.etag;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 비교용 값
+ * etag 는 따옴표 없이 두면 스프링이 응답에 넣을 때 붙인다. lastModifiedMillis 가 -1 이면 Last-Modified 를 쓰지 않는다.
+ * */
+public record VersionStamp(String etag, long lastModifiedMillis) {
+}
@@ -0,0 +1,65 @@
+package com.crud_repeat_nocopy_0828.common.etag;
+
+import com.crud_repeat_nocopy_0828.common.datasource.ReplicaReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 리소스별 버전 도장(ETag, Last-Modified) 프로세스 내부 캐시
+ * 적중하면 304 를 DB 도, 2차 캐시 엔티티 조립도 없이 돌려줄 수 있다.
+ *
+ * 이 인스턴스에서 일어난 쓰기는 커밋 후 바로 지우고(evictAfterCommit),
+ * 다른 인스턴스에서 일어난 쓰기는 stamp-ttl 이 지나면 반영된다 (그 사이에는 304 가 늦을 수 있음).
+ * 복제본에서 읽어 만든 도장은 복제 지연만큼 늦을 수 있어서 이번 응답에만 쓰고 캐시에 넣지 않는다.
+ * */
+@Component
+public class VersionStampCache {
+
+    private final Cache<String, VersionStamp> stamps;
+
+    public VersionStampCache(
+            @Value("${app.etag.stamp-ttl:PT5S}") Duration ttl,
+            @Value("${app.etag.max-stamps:100000}") long maxStamps
+    ) {
+        this.stamps = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxStamps)
+                .build();
+    }
+
+    // loader 가 null 을 돌려주면(리소스 없음) 캐시에 넣지 않는다
+    public Optional<VersionStamp> get(String key, Function<String, VersionStamp> loader) {
+        VersionStamp cached = stamps.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        ReplicaReads.reset();
+        VersionStamp loaded = loader.apply(key);
+        if (loaded != null && !ReplicaReads.happened()) {
+            stamps.put(key, loaded);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    public void evictAfterCommit(List<String> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stamps.invalidateAll(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stamps.invalidateAll(keys);
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.crud_repeat_nocopy_0828.common.job;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 삭제 작업 한 건의 진행 상태
+ * 삭제 스레드가 청크를 지울 때마다 카운터를 올리고, 조회 API 는 그 값을 읽기만 한다.
+ * */
+@Getter
+public class DeletionJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String target;                    // 예: "schedule:10", "user:3"
+    private final long estimatedComments;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong deletedComments = new AtomicLong();
+    private final AtomicLong deletedSchedules = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public DeletionJob(String target, long estimatedComments) {
+        this.target = target;
+        this.estimatedComments = estimatedComments;
+    }
+
+    public void addDeletedComments(long count) {
+        deletedComments.addAndGet(count);
+    }
+
+    public void addDeletedSchedules(long count) {
+        deletedSchedules.addAndGet(count);
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+        finishedAt = Instant.now();
+    }
+
+    void fail(Throwable cause) {
+        status = Status.FAILED;
+        error = cause.getMessage();
+        finishedAt = Instant.now();
+    }
+}
@@ -0,0 +1,77 @@
+package com.crud_repeat_nocopy_0828.common.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 대량 삭제 실행기
+ * 지울 댓글 수가 async-threshold 이하면 요청 스레드에서 바로 끝내고(Optional.empty),
+ * 넘으면 deletionExecutor 에서 비동기로 돌리고 진행 상황을 볼 수 있는 작업을 돌려준다.
+ * */
+@Slf4j
+@Component
+public class DeletionJobRunner {
+
+    private final TaskExecutor deletionExecutor;
+    private final long asyncThreshold;
+    private final Cache<String, DeletionJob> jobs = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public DeletionJobRunner(
+            @Qualifier("deletionExecutor") TaskExecutor deletionExecutor,
+            @Value("${app.deletion.async-threshold:1000}") long asyncThreshold
+    ) {
+        this.deletionExecutor = deletionExecutor;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    public Optional<DeletionJob> run(String target, long estimatedComments, Consumer<DeletionJob> work) {
+        DeletionJob job = new DeletionJob(target, estimatedComments);
+        if (estimatedComments <= asyncThreshold) {
+            work.accept(job);
+            job.complete();
+            return Optional.empty();
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            deletionExecutor.execute(() -> {
+                try {
+                    work.accept(job);
+                    job.complete();
+                    log.info("deletion job {} ({}) finished: {} comments, {} schedules",
+                            job.getId(), target, job.getDeletedComments().get(), job.getDeletedSchedules().get());
+                } catch (RuntimeException e) {
+                    job.fail(e);
+                    log.error("deletion job {} ({}) failed", job.getId(), target, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "삭제 작업이 밀려 있습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return Optional.of(job);
+    }
+
+    public DeletionJob find(String jobId) {
+        DeletionJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "삭제 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+}
@@ -0,0 +1,188 @@
+package com.crud_repeat_nocopy_0828.common.job;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 삭제 표시(deleted_at) 행의 실제 삭제
+ * 요청 경로의 삭제는 표시만 남기고, 보관 기간(retention)이 지난 행을 새벽 한가한 시간대(purge-cron)에 지운다.
+ * FK 순서대로 댓글 → 일정(+ 남은 댓글) → 회원(+ 남은 일정/댓글)을 처리한다.
+ *
+ * 한 배치 = 한 트랜잭션이고 배치 사이에 잠깐 쉰다. 한 번 실행에 purge-max-batches 까지만 하고 나머지는 다음 실행으로 넘긴다.
+ * 중간에 멈춰도 다시 실행하면 남은 것부터 이어서 지운다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TombstonePurger {
+
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    // 변경분 동기화 클라이언트가 삭제를 알아챌 수 있도록 삭제 표시를 남겨 두는 기간
+    @Value("${app.soft-delete.retention:P1D}")
+    private Duration retention;
+
+    @Value("${app.soft-delete.purge-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.soft-delete.purge-max-batches:200}")
+    private int maxBatches;
+
+    @Value("${app.soft-delete.purge-pause-ms:50}")
+    private long pauseMs;
+
+    @Scheduled(cron = "${app.soft-delete.purge-cron:0 */5 2-5 * * *}")
+    public void purgeExpired() {
+        purge(Instant.now().minus(retention));
+    }
+
+    // cutoff 이전에 삭제 표시된 행을 지우고, 지운 행 수를 돌려준다
+    public long purge(Instant cutoff) {
+        Budget budget = new Budget(maxBatches);
+        long comments = purgeTombstonedComments(cutoff, budget);
+        long schedules = purgeTombstonedSchedules(cutoff, budget);
+        long users = purgeTombstonedUsers(cutoff, budget);
+        log.info("tombstone purge finished: {} comments, {} schedules, {} users (batches left: {})",
+                comments, schedules, users, budget.left);
+        return comments + schedules + users;
+    }
+
+    private long purgeTombstonedComments(Instant cutoff, Budget budget) {
+        return repeat(budget, () -> {
+            List<Long> ids = commentRepository.findTombstonedIds(cutoff, batchSize);
+            return ids.isEmpty() ? 0 : commentRepository.purgeAllByIdIn(ids);
+        });
+    }
+
+    private long purgeTombstonedSchedules(Instant cutoff, Budget budget) {
+        long purged = 0;
+        while (budget.hasLeft()) {
+            List<Long> scheduleIds = scheduleRepository.findTombstonedIds(cutoff, batchSize);
+            if (scheduleIds.isEmpty() || !purgeSchedules(scheduleIds, budget)) {
+                break;
+            }
+            purged += scheduleIds.size();
+        }
+        return purged;
+    }
+
+    private long purgeTombstonedUsers(Instant cutoff, Budget budget) {
+        long purged = 0;
+        while (budget.hasLeft()) {
+            List<Long> userIds = userRepository.findTombstonedIds(cutoff, batchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                if (!purgeUser(userId, budget)) {
+                    return purged;
+                }
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    // 일정에 남은 댓글(삭제 표시 여부와 상관없이)을 먼저 지우고 일정을 지운다. 예산이 모자라 멈추면 false
+    private boolean purgeSchedules(List<Long> scheduleIds, Budget budget) {
+        repeat(budget, () -> {
+            List<Long> ids = commentRepository.findAllIdsByScheduleIdIn(scheduleIds, batchSize);
+            return ids.isEmpty() ? 0 : commentRepository.purgeAllByIdIn(ids);
+        });
+        if (!budget.take()) {
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> scheduleRepository.purgeAllByIdIn(scheduleIds));
+        scheduleIds.forEach(id -> entityManagerFactory.getCache().evict(Schedule.class, id));
+        pause();
+        return true;
+    }
+
+    private boolean purgeUser(Long userId, Budget budget) {
+        repeat(budget, () -> {
+            List<Long> ids = commentRepository.findAllIdsByUserId(userId, batchSize);
+            return ids.isEmpty() ? 0 : commentRepository.purgeAllByIdIn(ids);
+        });
+        while (budget.hasLeft()) {
+            List<Long> scheduleIds = scheduleRepository.findAllIdsByUserId(userId, batchSize);
+            if (scheduleIds.isEmpty()) {
+                break;
+            }
+            if (!purgeSchedules(scheduleIds, budget)) {
+                return false;
+            }
+        }
+        if (!budget.take()) {
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> userRepository.purgeById(userId));
+        entityManagerFactory.getCache().evict(User.class, userId);
+        pause();
+        return true;
+    }
+
+    // 0 을 돌려줄 때까지(더 지울 게 없을 때까지) 배치를 반복한다
+    private long repeat(Budget budget, Supplier<Integer> batch) {
+        long total = 0;
+        while (budget.take()) {
+            Integer deleted = transactionTemplate.execute(status -> batch.get());
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Budget {
+
+        private int left;
+
+        private Budget(int left) {
+            this.left = left;
+        }
+
+        private boolean hasLeft() {
+            return left > 0;
+        }
+
+        private boolean take() {
+            if (left <= 0) {
+                return false;
+            }
+            left--;
+            return true;
+        }
+    }
+}
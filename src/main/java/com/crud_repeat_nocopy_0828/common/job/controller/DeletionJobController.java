@@ -0,0 +1,22 @@
+package com.crud_repeat_nocopy_0828.common.job.controller;
+
+import com.crud_repeat_nocopy_0828.common.job.DeletionJobRunner;
+import com.crud_repeat_nocopy_0828.common.job.dto.DeletionJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class DeletionJobController {
+
+    private final DeletionJobRunner deletionJobRunner;
+
+    // 비동기 삭제 진행 상황 조회
+    @GetMapping("/deletion-jobs/{jobId}")
+    public ResponseEntity<DeletionJobResponse> find(@PathVariable String jobId) {
+        return ResponseEntity.ok(DeletionJobResponse.from(deletionJobRunner.find(jobId)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.crud_repeat_nocopy_0828.common.job.dto;
+
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class DeletionJobResponse {
+
+    private final String jobId;
+    private final String target;
+    private final DeletionJob.Status status;
+    private final long estimatedComments;
+    private final long deletedComments;
+    private final long deletedSchedules;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final String error;
+
+    private DeletionJobResponse(DeletionJob job) {
+        this.jobId = job.getId();
+        this.target = job.getTarget();
+        this.status = job.getStatus();
+        this.estimatedComments = job.getEstimatedComments();
+        this.deletedComments = job.getDeletedComments().get();
+        this.deletedSchedules = job.getDeletedSchedules().get();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.error = job.getError();
+    }
+
+    public static DeletionJobResponse from(DeletionJob job) {
+        return new DeletionJobResponse(job);
+    }
+}
@@ -0,0 +1,119 @@
+package com.crud_repeat_nocopy_0828.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 쿼리별 실행 시간/행 수를 Micrometer 로 기록하는 하이버네이트 통계 구현
+ * 이 빈 자체를 hibernate.stats.factory 로 넘겨서 스프링의 MeterRegistry 를 쓴다. (generate_statistics = true 필요)
+ *
+ * jpa.query       : 실행 시간 (Timer)
+ * jpa.query.rows  : 반환 행 수 (DistributionSummary)
+ * 태그는 쿼리 문자열이 아니라 operation(select/update/...)과 entity(첫 대상 엔티티/테이블 이름)로 줄인다.
+ * IN 목록 길이나 리터럴마다 문자열이 달라져도 시계열이 늘지 않고, 조합 수도 MAX_SERIES 에서 자른다.
+ * 미터는 태그 조합마다 한 번만 등록해 두고 다시 쓴다.
+ * */
+@Component
+public class MicrometerStatisticsFactory implements StatisticsFactory, HibernatePropertiesCustomizer {
+
+    static final int MAX_SERIES = 200;
+    static final String OTHER = "other";
+
+    private static final Pattern OPERATION = Pattern.compile("^\\s*(\\w+)");
+    private static final Pattern TARGET = Pattern.compile("\\b(?:from|update|into)\\s+([\\w.$]+)", Pattern.CASE_INSENSITIVE);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<QueryShape, QueryMeters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerStatisticsFactory(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATS_BUILDER, this);
+    }
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new MicrometerStatistics(sessionFactory, this);
+    }
+
+    void record(String query, int rows, long timeMs) {
+        QueryMeters queryMeters = meters(QueryShape.of(query));
+        queryMeters.time().record(timeMs, TimeUnit.MILLISECONDS);
+        queryMeters.rows().record(rows);
+    }
+
+    private QueryMeters meters(QueryShape shape) {
+        QueryMeters existing = meters.get(shape);
+        if (existing != null) {
+            return existing;
+        }
+        // 한도를 넘으면 새 조합은 만들지 않고 other 로 모은다 (한도 근처의 동시 등록으로 조금 넘는 건 괜찮다)
+        QueryShape key = meters.size() < MAX_SERIES ? shape : new QueryShape(OTHER, OTHER);
+        return meters.computeIfAbsent(key, this::register);
+    }
+
+    private QueryMeters register(QueryShape shape) {
+        return new QueryMeters(
+                Timer.builder("jpa.query")
+                        .tag("operation", shape.operation())
+                        .tag("entity", shape.entity())
+                        .register(meterRegistry),
+                DistributionSummary.builder("jpa.query.rows")
+                        .tag("operation", shape.operation())
+                        .tag("entity", shape.entity())
+                        .register(meterRegistry));
+    }
+
+    record QueryShape(String operation, String entity) {
+
+        // "select new ...Dto(...) from Schedule s where ..." → (select, Schedule)
+        static QueryShape of(String query) {
+            if (query == null) {
+                return new QueryShape(OTHER, OTHER);
+            }
+            Matcher operation = OPERATION.matcher(query);
+            Matcher target = TARGET.matcher(query);
+            String entity = target.find() ? target.group(1) : OTHER;
+            return new QueryShape(
+                    operation.find() ? operation.group(1).toLowerCase(Locale.ROOT) : OTHER,
+                    entity.substring(entity.lastIndexOf('.') + 1));
+        }
+    }
+
+    private record QueryMeters(Timer time, DistributionSummary rows) {
+    }
+
+    static class MicrometerStatistics extends StatisticsImpl {
+
+        private final MicrometerStatisticsFactory factory;
+
+        MicrometerStatistics(SessionFactoryImplementor sessionFactory, MicrometerStatisticsFactory factory) {
+            super(sessionFactory);
+            this.factory = factory;
+        }
+
+        @Override
+        public void queryExecuted(String query, int rows, long time) {
+            super.queryExecuted(query, rows, time);
+            factory.record(query, rows, time);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.crud_repeat_nocopy_0828.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 요청이 끝날 때 영속성 컨텍스트에 올라가 있는 엔티티 수를 엔드포인트별로 기록한다.
+ * jpa.persistence-context.entities{uri="/schedules/{id}"}
+ * 프로젝션 조회는 0 이어야 하고, 값이 커지면 엔티티를 불필요하게 로딩하고 있다는 뜻이다.
+ * open-in-view 의 EntityManager 는 afterCompletion 에서 닫히므로, 그 전에 도는 postHandle 에서 읽는다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class PersistenceContextMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder == null || !holder.getEntityManager().isOpen()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        int entities = holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+
+        DistributionSummary.builder("jpa.persistence-context.entities")
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .tag("method", request.getMethod())
+                .register(meterRegistry)
+                .record(entities);
+    }
+}
@@ -0,0 +1,62 @@
+package com.crud_repeat_nocopy_0828.common.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화(/changes) 커서
+ * 토큰 = Base64URL("범위:epoch초:나노초:마지막id")
+ * (updated_at, id) 키셋 위치를 담는다. 범위(schedules, comments)를 같이 넣어서 다른 목록의 토큰을 섞어 쓰는 것을 막는다.
+ * */
+public final class ChangeCursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private ChangeCursorCodec() {
+    }
+
+    public record Position(Instant updatedAt, long lastId) {
+    }
+
+    public static String encode(String scope, Instant updatedAt, long lastId) {
+        String raw = scope + SEPARATOR + updatedAt.getEpochSecond() + SEPARATOR + updatedAt.getNano() + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 since 시각부터(없으면 처음부터) 읽는다.
+     * since 와 같은 시각에 바뀐 행도 포함되도록 lastId 는 0 으로 둔다 (id 는 1부터 시작)
+     * */
+    public static Position decode(String cursor, String scope, Instant since) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Position(since == null ? Instant.EPOCH : since, 0L);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 4 || !parts[0].equals(scope)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            Instant updatedAt = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            return new Position(updatedAt, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 보관 기간보다 오래된 위치에서 이어 읽으면 그 사이 지워진(이미 실제 삭제된) 행을 알려 줄 수 없다.
+     * 이 경우 410 으로 알려서 클라이언트가 since 없이 전체를 다시 받게 한다 (처음부터 읽는 전체 동기화는 그대로 허용).
+     * */
+    public static void requireRetained(Position from, Instant retainedSince) {
+        if (!from.updatedAt().equals(Instant.EPOCH) && from.updatedAt().isBefore(retainedSince)) {
+            throw new ResponseStatusException(HttpStatus.GONE, "삭제 기록 보관 기간이 지났습니다. 전체를 다시 받아 주세요.");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.crud_repeat_nocopy_0828.common.pagination;
+
+import java.time.Instant;
+
+/**
+ * 변경분 동기화 한 행 : (updated_at, id) 키셋 위치 + 살아 있는 행의 응답(item) 또는 삭제 표시 시각(deletedAt)
+ * 삭제 표시 행은 @SQLRestriction 을 거치지 않는 네이티브 쿼리로만 읽을 수 있어서 둘을 한 목록으로 받는다.
+ * */
+public record ChangeRow<T>(Long id, Instant updatedAt, Instant deletedAt, T item) {
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.crud_repeat_nocopy_0828.common.pagination;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경분 동기화 응답
+ * items 는 추가/수정된 행, deleted 는 그 사이 삭제된 행(id + 삭제 시각). 둘 다 같은 (updated_at, id) 구간에서 나온다.
+ * nextCursor 는 마지막 페이지여도 항상 내려준다. 클라이언트는 저장해 두었다가 다음 폴링에 그대로 보낸다.
+ * 마지막 페이지의 커서는 이번에 훑은 경계(until)까지 옮겨 둔다. 조용한 범위를 계속 폴링하는 클라이언트의 커서가
+ * 삭제 기록 보관 기간보다 오래되어 410 을 받는 일이 없게 하기 위해서다.
+ * hasMore 가 true 면 아직 밀린 변경이 있으니 바로 이어서 요청하면 된다.
+ * */
+@Getter
+public class ChangesResponse<T> {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final List<T> items;
+    private final List<DeletedItem> deleted;
+    private final String nextCursor;
+    private final boolean hasMore;
+
+    public ChangesResponse(List<T> items, List<DeletedItem> deleted, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.deleted = deleted;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * size + 1 개로 읽은 행에서 응답을 만든다 (COUNT 쿼리 없음)
+     * until 은 이번 조회의 위쪽 경계(updated_at < until)다. 더 읽을 게 없으면 커서를 (until, 0) 으로 옮긴다.
+     * 같은 시각(until)에 바뀐 행은 id 가 1 이상이라 다음 조회에 포함된다.
+     * */
+    public static <T> ChangesResponse<T> of(List<ChangeRow<T>> rows, int pageSize, String scope,
+                                            ChangeCursorCodec.Position from, Instant until) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ChangeRow<T>> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<T> items = new ArrayList<>();
+        List<DeletedItem> deleted = new ArrayList<>();
+        for (ChangeRow<T> row : page) {
+            if (row.isDeleted()) {
+                deleted.add(new DeletedItem(row.id(), row.deletedAt()));
+            } else {
+                items.add(row.item());
+            }
+        }
+
+        String nextCursor;
+        if (hasMore) {
+            ChangeRow<T> last = page.get(page.size() - 1);
+            nextCursor = ChangeCursorCodec.encode(scope, last.updatedAt(), last.id());
+        } else if (until.isAfter(from.updatedAt())) {
+            nextCursor = ChangeCursorCodec.encode(scope, until, 0L);
+        } else {
+            // since 가 경계보다 앞(미래)이면 받은 위치를 그대로 둔다
+            nextCursor = ChangeCursorCodec.encode(scope, from.updatedAt(), from.lastId());
+        }
+        return new ChangesResponse<>(items, deleted, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,45 @@
+package com.crud_repeat_nocopy_0828.common.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션의 연속 토큰을 만들고 해석하는 유틸
+ * 토큰 = Base64URL("범위키:마지막id")
+ * 클라이언트는 토큰 내부를 알 필요 없이 받은 값을 그대로 다음 요청에 돌려주면 된다(opaque).
+ * 범위키(예: scheduleId)를 같이 넣어서 다른 일정의 토큰을 섞어 쓰는 것을 막는다.
+ * */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long scopeId, long lastId) {
+        String raw = scopeId + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 처음부터 읽도록 0 을 돌려준다 (id 는 1부터 시작)
+    public static long decode(String cursor, long scopeId) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 2 || Long.parseLong(parts[0]) != scopeId) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            return Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패(NumberFormatException) 모두 여기로 온다
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
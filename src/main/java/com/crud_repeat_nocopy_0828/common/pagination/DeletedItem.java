@@ -0,0 +1,18 @@
+package com.crud_repeat_nocopy_0828.common.pagination;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 변경분 동기화의 삭제 알림. 클라이언트는 같은 id 를 로컬에서 지운다
+@Getter
+public class DeletedItem {
+
+    private final Long id;
+    private final Instant deletedAt;
+
+    public DeletedItem(Long id, Instant deletedAt) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+}
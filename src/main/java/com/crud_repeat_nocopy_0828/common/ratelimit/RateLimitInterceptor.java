@@ -0,0 +1,37 @@
+package com.crud_repeat_nocopy_0828.common.ratelimit;
+
+import com.crud_repeat_nocopy_0828.common.session.LoginUsers;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+// @RateLimited 가 붙은 핸들러만 센다. 컨트롤러/서비스(트랜잭션, 커넥션)에 들어가기 전에 거절한다
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited limited = method.getMethodAnnotation(RateLimited.class);
+        if (limited == null) {
+            return true;
+        }
+        Long userId = LoginUsers.find(request);
+        String subject = userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(limited.value(), subject);
+        if (!decision.allowed()) {
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+            throw new TooManyRequestsException(seconds);
+        }
+        return true;
+    }
+}
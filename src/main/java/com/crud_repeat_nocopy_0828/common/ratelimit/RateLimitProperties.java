@@ -0,0 +1,39 @@
+package com.crud_repeat_nocopy_0828.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 제한 설정 (app.rate-limit.*)
+ * 정책 이름은 컨트롤러 메서드의 @RateLimited 값과 맞춘다. 설정에 없는 이름은 defaultPolicy 를 쓴다.
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 버킷(사용자 × 정책) 최대 개수와 미사용 버킷 제거 시간. 메모리 상한 = maxBuckets × 버킷 하나(수십 바이트)
+    private long maxBuckets = 100_000;
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    private Policy defaultPolicy = new Policy();
+    private Map<String, Policy> policies = new HashMap<>();
+
+    public Policy policy(String name) {
+        return policies.getOrDefault(name, defaultPolicy);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private int capacity = 60;              // 한 번에 몰아 쓸 수 있는 최대 요청 수 (버스트)
+        private double refillPerSecond = 5;     // 초당 다시 채워지는 요청 수 (지속 가능한 속도)
+    }
+}
@@ -0,0 +1,17 @@
+package com.crud_repeat_nocopy_0828.common.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 엔드포인트에 요청 제한을 건다. value = 정책 이름 (app.rate-limit.policies.{value})
+ * 로그인 사용자별로, 로그인하지 않았으면 클라이언트 IP 별로 센다.
+ * */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    String value();
+}
@@ -0,0 +1,59 @@
+package com.crud_repeat_nocopy_0828.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정책 × 주체(로그인 사용자 또는 IP) 별 토큰 버킷
+ * 버킷은 Caffeine 캐시에 둔다. 조회는 잠금 없이 읽고, 캐시 내부가 구간별로 나뉘어 있어 서로 다른 키끼리 부딪히지 않는다.
+ * 한동안 요청이 없는 버킷은 idleExpiry 후 사라지고, 개수도 maxBuckets 로 묶인다.
+ * (사라진 버킷은 다음 요청 때 가득 찬 상태로 다시 만들어지므로, idleExpiry 는 버킷을 다 채우는 시간보다 길게 잡는다)
+ * */
+public class RateLimiter {
+
+    public record Decision(boolean allowed, long retryAfterNanos) {
+    }
+
+    private record BucketKey(String policy, String subject) {
+    }
+
+    private final RateLimitProperties properties;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+        Gauge.builder("ratelimit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public Decision tryAcquire(String policy, String subject) {
+        TokenBucket bucket = buckets.get(new BucketKey(policy, subject), key -> {
+            RateLimitProperties.Policy config = properties.policy(key.policy());
+            return new TokenBucket(config.getCapacity(), config.getRefillPerSecond());
+        });
+        long wait = bucket.tryAcquire(System.nanoTime());
+        counter(policy, wait == 0).increment();
+        return new Decision(wait == 0, wait);
+    }
+
+    // ratelimit.decisions{policy, outcome=allowed|rejected}
+    private Counter counter(String policy, boolean allowed) {
+        String outcome = allowed ? "allowed" : "rejected";
+        return counters.computeIfAbsent(policy + ":" + outcome, key -> Counter.builder("ratelimit.decisions")
+                .tag("policy", policy)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
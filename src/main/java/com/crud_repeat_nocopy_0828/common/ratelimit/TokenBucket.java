@@ -0,0 +1,38 @@
+package com.crud_repeat_nocopy_0828.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식)
+ * 남은 토큰 수와 마지막 충전 시각을 따로 들고 있지 않고, "이론상 다음 요청 도착 시각(TAT)" long 하나만 CAS 로 바꾼다.
+ * → 토큰 수와 시각을 같이 맞추려고 잠금을 잡을 필요가 없고, 충돌하면 다시 읽어서 재시도할 뿐이다.
+ *
+ * 토큰 하나 = interval 나노초. 버킷이 가득 찬 상태 = TAT 가 현재 시각 이하.
+ * 요청 하나를 받으면 TAT 를 interval 만큼 미룬다. TAT 가 현재보다 capacity × interval 이상 앞서 나가면 거절.
+ * */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+    }
+
+    // 통과면 0, 거절이면 다음 토큰까지 기다려야 하는 나노초
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
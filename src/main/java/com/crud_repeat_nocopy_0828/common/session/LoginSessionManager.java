@@ -0,0 +1,22 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+/**
+ * 로그인 상태 저장 방식 (app.session.mode)
+ * - servlet : HttpSession 에 LOGIN_USER 를 둔다 (기본값, 세션이 한 노드에 묶임)
+ * - token   : 서명된 토큰을 발급하고 서버에는 아무것도 두지 않는다 (로그아웃만 작은 폐기 목록에 기록)
+ * */
+public interface LoginSessionManager {
+
+    // 로그인 성공 후 호출. 토큰 방식이면 발급한 토큰을 돌려준다
+    Optional<String> start(Long userId, HttpServletRequest request);
+
+    // 로그아웃 : 이 요청의 로그인만 끝낸다
+    void end(HttpServletRequest request);
+
+    // 회원 탈퇴 등 : 이 사용자의 로그인을 모두 끝낸다
+    void endAll(Long userId, HttpServletRequest request);
+}
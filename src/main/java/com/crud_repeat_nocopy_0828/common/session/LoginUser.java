@@ -0,0 +1,16 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인 사용자 id(Long) 주입
+ * 세션 방식(app.session.mode)과 상관없이 같은 방법으로 받는다. 로그인하지 않았으면 401.
+ * (@SessionAttribute 는 서블릿 세션만 보므로 토큰 방식에서 쓸 수 없다)
+ * */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
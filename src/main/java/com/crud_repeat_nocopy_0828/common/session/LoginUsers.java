@@ -0,0 +1,20 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+// 요청의 로그인 사용자 id : 토큰 필터가 넣은 요청 속성 → 없으면 서블릿 세션 (세션을 새로 만들지는 않는다)
+public final class LoginUsers {
+
+    private LoginUsers() {
+    }
+
+    public static Long find(HttpServletRequest request) {
+        Object fromToken = request.getAttribute(SessionConst.LOGIN_USER);
+        if (fromToken instanceof Long userId) {
+            return userId;
+        }
+        HttpSession session = request.getSession(false);
+        return session == null ? null : (Long) session.getAttribute(SessionConst.LOGIN_USER);
+    }
+}
@@ -0,0 +1,36 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "servlet", matchIfMissing = true)
+public class ServletLoginSessionManager implements LoginSessionManager {
+
+    @Override
+    public Optional<String> start(Long userId, HttpServletRequest request) {
+        if (request.getSession(false) != null) {
+            request.changeSessionId();      // 로그인 전에 받은 세션 id 를 그대로 쓰지 않는다 (세션 고정 방지)
+        }
+        request.getSession(true).setAttribute(SessionConst.LOGIN_USER, userId);
+        return Optional.empty();
+    }
+
+    @Override
+    public void end(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    // 다른 기기의 세션은 찾을 수 없어서 현재 세션만 끝낸다 (남은 세션은 타임아웃으로 사라지고, 탈퇴한 사용자는 조회에서 걸러진다)
+    @Override
+    public void endAll(Long userId, HttpServletRequest request) {
+        end(request);
+    }
+}
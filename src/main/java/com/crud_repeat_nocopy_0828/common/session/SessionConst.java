@@ -0,0 +1,10 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+// 세션에 저장하는 로그인 사용자 id(Long)의 키
+public final class SessionConst {
+
+    public static final String LOGIN_USER = "LOGIN_USER";
+
+    private SessionConst() {
+    }
+}
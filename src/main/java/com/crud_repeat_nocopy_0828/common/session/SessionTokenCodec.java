@@ -0,0 +1,119 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 로그인 토큰 발급/검증 (HMAC-SHA256 서명)
+ * 형식 : base64url(본문 33바이트) "." base64url(서명 32바이트)  (약 90자)
+ * 본문 : 형식 버전(1) + userId(8) + 발급 시각(8) + 만료 시각(8) + 토큰 id(8)
+ *
+ * 검증은 서명과 만료 시각만 보므로 DB 도, 세션 저장소도 필요 없다 → 어느 노드로 가도 같은 결과.
+ * 모든 노드가 같은 비밀 키(app.session.token.secret)를 써야 한다. 키가 없으면 기동에 실패한다.
+ * */
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+public class SessionTokenCodec {
+
+    private static final byte FORMAT = 1;
+    private static final int PAYLOAD_BYTES = 1 + 8 + 8 + 8 + 8;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public record Claims(long userId, Instant issuedAt, Instant expiresAt, long tokenId) {
+    }
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+    // Mac 은 스레드 안전하지 않아서 스레드마다 하나씩 둔다 (요청마다 만들면 초기화 비용이 크다)
+    private final ThreadLocal<Mac> macs;
+
+    public SessionTokenCodec(
+            @Value("${app.session.token.secret:}") String secret,
+            @Value("${app.session.token.ttl:PT30M}") Duration ttl
+    ) {
+        // 무작위 키로 뜨면 노드마다, 재시작마다 토큰이 무효가 되므로 키 없이는 기동하지 않는다
+        if (secret.isBlank()) {
+            throw new IllegalStateException("app.session.token.secret must be set when app.session.mode=token");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(secret);
+        if (keyBytes.length < 32) {
+            throw new IllegalStateException("app.session.token.secret must be at least 32 bytes (base64)");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(long userId) {
+        Instant now = Instant.now();
+        Claims claims = new Claims(userId, now, now.plus(ttl), random.nextLong());
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_BYTES)
+                .put(FORMAT)
+                .putLong(claims.userId())
+                .putLong(claims.issuedAt().getEpochSecond())
+                .putLong(claims.expiresAt().getEpochSecond())
+                .putLong(claims.tokenId())
+                .array();
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    // 형식이 틀리거나, 서명이 맞지 않거나, 만료되었으면 empty
+    public Optional<Claims> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_BYTES || payload[0] != FORMAT
+                || !MessageDigest.isEqual(sign(payload), signature)) {   // 비교 시간이 값에 따라 달라지지 않게
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, PAYLOAD_BYTES - 1);
+        Claims claims = new Claims(buffer.getLong(), Instant.ofEpochSecond(buffer.getLong()),
+                Instant.ofEpochSecond(buffer.getLong()), buffer.getLong());
+        if (!claims.expiresAt().isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer {token} 을 검증해서 로그인 사용자 id 를 요청 속성(LOGIN_USER)에 넣는다.
+ * 서명/만료/폐기 목록만 확인하고 DB, 세션 저장소는 보지 않는다.
+ * 토큰이 없거나 무효면 비로그인 요청으로 흘려보내고, 로그인이 필요한 엔드포인트에서 401 이 된다.
+ * 다른 필터(ReadYourWritesFilter 등)보다 먼저 돌아야 해서 순서를 앞에 둔다.
+ * */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    static final String CLAIMS = SessionTokenFilter.class.getName() + ".claims";
+
+    private static final String BEARER = "Bearer ";
+
+    private final SessionTokenCodec sessionTokenCodec;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)) {
+            sessionTokenCodec.verify(header.substring(BEARER.length()).trim())
+                    .filter(claims -> !tokenRevocationList.isRevoked(claims))
+                    .ifPresent(claims -> {
+                        request.setAttribute(SessionConst.LOGIN_USER, claims.userId());
+                        request.setAttribute(CLAIMS, claims);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,35 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 토큰 방식 : 서버에는 로그인 상태를 두지 않고, 끝낼 때만 폐기 목록에 남긴다
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class TokenLoginSessionManager implements LoginSessionManager {
+
+    private final SessionTokenCodec sessionTokenCodec;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public Optional<String> start(Long userId, HttpServletRequest request) {
+        return Optional.of(sessionTokenCodec.issue(userId));
+    }
+
+    @Override
+    public void end(HttpServletRequest request) {
+        if (request.getAttribute(SessionTokenFilter.CLAIMS) instanceof SessionTokenCodec.Claims claims) {
+            tokenRevocationList.revoke(claims);
+        }
+    }
+
+    @Override
+    public void endAll(Long userId, HttpServletRequest request) {
+        tokenRevocationList.revokeUser(userId);
+    }
+}
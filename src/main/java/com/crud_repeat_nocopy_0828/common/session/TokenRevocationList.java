@@ -0,0 +1,110 @@
+package com.crud_repeat_nocopy_0828.common.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 만료 전에 무효로 만든 토큰 목록 (로그아웃, 회원 탈퇴)
+ * 토큰은 어차피 만료 시각이 지나면 거부되므로, 항목도 그 토큰의 만료 시각까지만 들고 있다 → 목록이 작게 유지된다.
+ *
+ * 이 목록은 인스턴스마다 따로다. 다른 노드에서는 로그아웃한 토큰이 만료(app.session.token.ttl)될 때까지 통과하므로
+ * ttl 을 짧게 잡는다.
+ *
+ * 항목이 max-revoked 를 넘어 밀려나면 그 토큰이 다시 통과하지 않도록 닫힌 쪽으로 실패한다.
+ * 밀려난 항목이 폐기된 시각까지 발급된 토큰은 모두 무효로 본다 (그 사이 로그인한 사용자는 다시 로그인해야 한다).
+ * 이 기준 시각은 ttl 이 지나면 자연히 의미가 없어진다 (그 전에 발급된 토큰은 이미 만료).
+ * */
+@Component
+@ConditionalOnProperty(name = "app.session.mode", havingValue = "token")
+public class TokenRevocationList {
+
+    private record Revoked(Instant revokedAt, Instant expiresAt) {
+    }
+
+    private final Cache<Long, Revoked> revokedTokens;    // 토큰 id → 폐기 시각, 토큰 만료 시각
+    private final Cache<Long, Instant> revokedUsers;     // userId → 이 시각까지 발급된 토큰은 모두 무효
+
+    // 목록에서 밀려난 항목 때문에 생긴 기준 : 이 시각까지 발급된 토큰은 모두 무효
+    private final AtomicReference<Instant> evictedCutoff = new AtomicReference<>(Instant.EPOCH);
+    private final Counter evictions;
+
+    public TokenRevocationList(
+            SessionTokenCodec sessionTokenCodec,
+            MeterRegistry meterRegistry,
+            @Value("${app.session.token.max-revoked:100000}") long maxRevoked
+    ) {
+        this.evictions = meterRegistry.counter("session.token.revocations.evicted");
+        // 정리(eviction)를 호출한 스레드에서 바로 해서, 밀려난 순간 기준 시각이 함께 옮겨지게 한다
+        this.revokedTokens = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxRevoked)
+                .expireAfter(new Expiry<Long, Revoked>() {
+                    @Override
+                    public long expireAfterCreate(Long tokenId, Revoked revoked, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), revoked.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long tokenId, Revoked revoked, long currentTime, long currentDuration) {
+                        return expireAfterCreate(tokenId, revoked, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long tokenId, Revoked revoked, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .<Long, Revoked>evictionListener((tokenId, revoked, cause) -> {
+                    if (cause == RemovalCause.SIZE && revoked != null) {
+                        failClosed(revoked.revokedAt());
+                    }
+                })
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxRevoked)
+                .expireAfterWrite(sessionTokenCodec.getTtl())
+                .<Long, Instant>evictionListener((userId, revokedAt, cause) -> {
+                    if (cause == RemovalCause.SIZE && revokedAt != null) {
+                        failClosed(revokedAt);
+                    }
+                })
+                .build();
+    }
+
+    public void revoke(SessionTokenCodec.Claims claims) {
+        revokedTokens.put(claims.tokenId(), new Revoked(Instant.now(), claims.expiresAt()));
+    }
+
+    public void revokeUser(long userId) {
+        revokedUsers.put(userId, Instant.now());
+    }
+
+    public boolean isRevoked(SessionTokenCodec.Claims claims) {
+        if (revokedTokens.getIfPresent(claims.tokenId()) != null || issuedNotAfter(claims, evictedCutoff.get())) {
+            return true;
+        }
+        return issuedNotAfter(claims, revokedUsers.getIfPresent(claims.userId()));
+    }
+
+    // 발급 시각은 초 단위라서 같은 초에 발급된 토큰도 무효로 본다
+    private static boolean issuedNotAfter(SessionTokenCodec.Claims claims, Instant cutoff) {
+        return cutoff != null && claims.issuedAt().getEpochSecond() <= cutoff.getEpochSecond();
+    }
+
+    private void failClosed(Instant revokedAt) {
+        evictions.increment();
+        evictedCutoff.accumulateAndGet(revokedAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+}
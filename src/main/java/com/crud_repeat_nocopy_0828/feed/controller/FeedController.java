@@ -0,0 +1,40 @@
+package com.crud_repeat_nocopy_0828.feed.controller;
+
+import com.crud_repeat_nocopy_0828.common.session.LoginUser;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedResponse;
+import com.crud_repeat_nocopy_0828.feed.service.ActivityFeed;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final ActivityFeed activityFeed;
+
+    // 전체 활동 피드 (모든 사용자의 최신 일정/댓글). nextCursor 를 그대로 cursor 로 보내면 다음 페이지
+    @GetMapping("/feed")
+    public ResponseEntity<FeedResponse> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(activityFeed.readAll(cursor, size));
+    }
+
+    // 내 활동 피드 (내 일정/댓글 + 내 일정에 달린 댓글)
+    @GetMapping("/users/me/feed")
+    public ResponseEntity<FeedResponse> findMine(
+            @LoginUser Long loginUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(activityFeed.readFor(loginUserId, cursor, size));
+    }
+}
@@ -0,0 +1,52 @@
+package com.crud_repeat_nocopy_0828.feed.dto;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 활동 피드 항목 (일정 작성 또는 댓글 작성 하나)
+ * 일정 항목은 scheduleId = id, title 이 있고 / 댓글 항목은 title 이 null 이다.
+ * 생성자 두 개는 ScheduleRepository, CommentRepository 의 피드 쿼리(JPQL 생성자 식)가 그대로 쓴다.
+ * */
+@Getter
+public class FeedItem {
+
+    public static final String TYPE_SCHEDULE = "schedule";
+    public static final String TYPE_COMMENT = "comment";
+
+    private final String type;
+    private final Long id;
+    private final Long scheduleId;
+    private final Long userId;
+    private final String userName;
+    private final String title;
+    private final String content;
+    private final Instant createdAt;
+
+    // 일정
+    public FeedItem(Long id, Long userId, String userName, String title, String content, Instant createdAt) {
+        this(TYPE_SCHEDULE, id, id, userId, userName, title, content, createdAt);
+    }
+
+    // 댓글
+    public FeedItem(Long id, Long scheduleId, Long userId, String userName, String content, Instant createdAt) {
+        this(TYPE_COMMENT, id, scheduleId, userId, userName, null, content, createdAt);
+    }
+
+    private FeedItem(String type, Long id, Long scheduleId, Long userId, String userName, String title, String content,
+                     Instant createdAt) {
+        this.type = type;
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.userName = userName;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    public FeedItem withUserName(String userName) {
+        return new FeedItem(type, id, scheduleId, userId, userName, title, content, createdAt);
+    }
+}
@@ -0,0 +1,21 @@
+package com.crud_repeat_nocopy_0828.feed.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 피드 페이지 응답 (최신순)
+ * nextCursor 가 null 이면 마지막 페이지.
+ * */
+@Getter
+public class FeedResponse {
+
+    private final List<FeedItem> items;
+    private final String nextCursor;
+
+    public FeedResponse(List<FeedItem> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
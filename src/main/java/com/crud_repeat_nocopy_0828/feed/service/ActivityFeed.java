@@ -0,0 +1,239 @@
+package com.crud_repeat_nocopy_0828.feed.service;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedResponse;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 활동 피드 (최신 일정 + 댓글)
+ * - 전체 피드   : 모든 사용자의 일정/댓글
+ * - 사용자 피드 : 내가 쓴 일정/댓글 + 내 일정에 다른 사람이 단 댓글
+ *
+ * 매 요청마다 schedules, comments 를 합쳐 정렬하지 않고, 쓰기 이벤트(FeedListener, 커밋 후)로 타임라인을 미리 갱신해 둔다.
+ * 타임라인은 최신 N 개만 담는 링 버퍼(Timeline)이고, 사용자 피드는 최근에 읽은 사용자 것만 메모리에 둔다 (개수 상한 + 유휴 만료).
+ * 처음 읽을 때 DB 에서 최신 N 개로 채우고, 버퍼 밖(더 오래된 페이지)이나 만료된 타임라인은 DB 키셋 쿼리로 읽는다.
+ * 어느 쪽이든 한 페이지 비용은 페이지 크기에만 비례한다 (테이블 크기와 무관).
+ *
+ * 다른 인스턴스에서 일어난 쓰기는 이 인스턴스의 버퍼에 들어오지 않는다.
+ * 여러 대로 돌릴 때는 reseed-cron 마다 버퍼를 비워 DB 에서 다시 채우게 해서 그 차이를 좁힌다.
+ * */
+@Service
+public class ActivityFeed {
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timeline global;
+    private final Cache<Long, Timeline> timelines;
+    private final int globalCapacity;
+    private final int timelineCapacity;
+    private final Counter memoryReads;
+    private final Counter databaseReads;
+
+    public ActivityFeed(
+            UserRepository userRepository,
+            ScheduleRepository scheduleRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.feed.global-capacity:1000}") int globalCapacity,
+            @Value("${app.feed.timeline-capacity:200}") int timelineCapacity,
+            @Value("${app.feed.max-timelines:10000}") long maxTimelines,
+            @Value("${app.feed.idle-expiry:PT30M}") Duration idleExpiry
+    ) {
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.globalCapacity = globalCapacity;
+        this.timelineCapacity = timelineCapacity;
+        this.global = new Timeline(globalCapacity);
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxTimelines)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.memoryReads = meterRegistry.counter("feed.reads", "source", "memory");
+        this.databaseReads = meterRegistry.counter("feed.reads", "source", "database");
+        meterRegistry.gauge("feed.timelines", timelines, cache -> cache.estimatedSize());
+    }
+
+    public FeedResponse readAll(String cursor, int size) {
+        return read(global, globalCapacity, this::loadAll, FeedCursor.decode(cursor), size);
+    }
+
+    public FeedResponse readFor(Long userId, String cursor, int size) {
+        Timeline timeline = timelines.get(userId, id -> new Timeline(timelineCapacity));
+        return read(timeline, timelineCapacity, (from, limit) -> loadFor(userId, from, limit), FeedCursor.decode(cursor), size);
+    }
+
+    private FeedResponse read(Timeline timeline, int capacity, BiFunction<FeedKey, Integer, List<FeedItem>> loader,
+                              FeedKey from, int size) {
+        if (!timeline.isSeeded()) {
+            List<FeedItem> newest = inReadOnlyTransaction(() -> loader.apply(FeedKey.START, capacity + 1));
+            timeline.seed(newest, newest.size() <= capacity);
+        }
+        // size + 1 개로 다음 페이지 유무를 판단한다 (COUNT 쿼리 없음)
+        Optional<List<FeedItem>> buffered = timeline.after(from, size + 1);
+        List<FeedItem> rows;
+        if (buffered.isPresent()) {
+            memoryReads.increment();
+            rows = buffered.get();
+        } else {
+            databaseReads.increment();
+            rows = inReadOnlyTransaction(() -> loader.apply(from, size + 1));
+        }
+        boolean hasMore = rows.size() > size;
+        List<FeedItem> page = hasMore ? rows.subList(0, size) : rows;
+        return new FeedResponse(List.copyOf(page), hasMore ? FeedCursor.encode(page.get(page.size() - 1)) : null);
+    }
+
+    /*
+     * 쓰기 이벤트 (FeedListener 가 커밋 후에 호출)
+     * 전체 타임라인과, 메모리에 올라와 있는 관련 사용자 타임라인에만 반영한다 (없는 사용자 타임라인을 새로 만들지 않음).
+     * */
+
+    public void scheduleSaved(FeedItem item) {
+        global.upsert(item);
+        route(item.getUserId(), null, timeline -> timeline.upsert(item));
+    }
+
+    public void scheduleRemoved(Long scheduleId) {
+        removeSchedules(List.of(scheduleId));
+    }
+
+    /**
+     * 댓글 항목에는 작성자 이름과 일정 작성자(알림 대상)가 필요하다.
+     * 리스너에서 LAZY 프록시를 건드리지 않도록 여기서 2차 캐시(users, schedules)로 찾는다.
+     * */
+    public void commentSaved(Long commentId, Long scheduleId, Long userId, String content, Instant createdAt) {
+        Optional<String> userName = userRepository.findById(userId).map(User::getUserName);
+        if (userName.isEmpty()) {
+            return;
+        }
+        FeedItem item = new FeedItem(commentId, scheduleId, userId, userName.get(), content, createdAt);
+        global.upsert(item);
+        route(userId, scheduleOwner(scheduleId), timeline -> timeline.upsert(item));
+    }
+
+    public void commentRemoved(Long commentId, Long scheduleId, Long userId) {
+        global.removeIf(item -> isComment(item, commentId));
+        route(userId, scheduleOwner(scheduleId), timeline -> timeline.removeIf(item -> isComment(item, commentId)));
+    }
+
+    /*
+     * 벌크 UPDATE(일정 삭제, 댓글 청크 삭제, 이름 전파)는 id 만 알고 관련 사용자를 모르므로 메모리의 타임라인을 모두 훑는다.
+     * 드문 작업이고 타임라인당 최대 timeline-capacity 개라 비용이 정해져 있다.
+     * */
+
+    // 일정과 그 일정에 달린 댓글 항목을 같이 뺀다 (일정 항목의 scheduleId 는 자기 id)
+    public void removeSchedules(Collection<Long> scheduleIds) {
+        Set<Long> ids = new HashSet<>(scheduleIds);
+        forEachTimeline(timeline -> timeline.removeIf(item -> ids.contains(item.getScheduleId())));
+    }
+
+    public void removeComments(Collection<Long> commentIds) {
+        Set<Long> ids = new HashSet<>(commentIds);
+        forEachTimeline(timeline -> timeline.removeIf(
+                item -> FeedItem.TYPE_COMMENT.equals(item.getType()) && ids.contains(item.getId())));
+    }
+
+    public void renameAuthor(Long userId, String userName) {
+        forEachTimeline(timeline -> timeline.replaceAll(
+                item -> userId.equals(item.getUserId()) ? item.withUserName(userName) : item));
+    }
+
+    /**
+     * 버퍼를 비우고 다음 읽기 때 DB 에서 다시 채운다 (여러 인스턴스 운영 시 다른 인스턴스의 쓰기 반영)
+     * 기본은 꺼짐("-"). 한 대로 돌릴 때는 필요 없다.
+     * */
+    @Scheduled(cron = "${app.feed.reseed-cron:-}")
+    public void reseed() {
+        global.reset();
+        timelines.invalidateAll();
+    }
+
+    private void route(Long userId, Long scheduleOwnerId, Consumer<Timeline> action) {
+        Stream.of(userId, scheduleOwnerId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(timelines::getIfPresent)
+                .filter(Objects::nonNull)
+                .forEach(action);
+    }
+
+    private void forEachTimeline(Consumer<Timeline> action) {
+        action.accept(global);
+        timelines.asMap().values().forEach(action);
+    }
+
+    private Long scheduleOwner(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId).map(schedule -> schedule.getUser().getId()).orElse(null);
+    }
+
+    private static boolean isComment(FeedItem item, Long commentId) {
+        return FeedItem.TYPE_COMMENT.equals(item.getType()) && commentId.equals(item.getId());
+    }
+
+    /*
+     * DB 경로 : 종류별로 limit 개씩 키셋 쿼리를 보내서 합친 뒤 앞에서부터 limit 개
+     * */
+
+    private List<FeedItem> loadAll(FeedKey from, int limit) {
+        return merge(limit,
+                scheduleRepository.findFeedBefore(from.createdAt(), from.idBoundFor(FeedKey.RANK_SCHEDULE), Limit.of(limit)),
+                commentRepository.findFeedBefore(from.createdAt(), from.idBoundFor(FeedKey.RANK_COMMENT), Limit.of(limit)));
+    }
+
+    private List<FeedItem> loadFor(Long userId, FeedKey from, int limit) {
+        long scheduleBound = from.idBoundFor(FeedKey.RANK_SCHEDULE);
+        long commentBound = from.idBoundFor(FeedKey.RANK_COMMENT);
+        return merge(limit,
+                scheduleRepository.findFeedByUserIdBefore(userId, from.createdAt(), scheduleBound, Limit.of(limit)),
+                commentRepository.findFeedByUserIdBefore(userId, from.createdAt(), commentBound, Limit.of(limit)),
+                commentRepository.findFeedOnSchedulesOfUserBefore(userId, from.createdAt(), commentBound, Limit.of(limit)));
+    }
+
+    @SafeVarargs
+    private static List<FeedItem> merge(int limit, List<FeedItem>... sources) {
+        List<FeedItem> merged = new ArrayList<>();
+        for (List<FeedItem> source : sources) {
+            merged.addAll(source);
+        }
+        merged.sort(Comparator.comparing(FeedKey::of));
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> work) {
+        return readOnlyTransaction.execute(status -> work.get());
+    }
+}
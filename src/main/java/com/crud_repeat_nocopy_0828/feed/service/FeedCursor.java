@@ -0,0 +1,50 @@
+package com.crud_repeat_nocopy_0828.feed.service;
+
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 피드 커서
+ * 토큰 = Base64URL("epoch초:나노초:종류:id") : 마지막으로 받은 항목의 FeedKey 위치
+ * 메모리 버퍼에서 읽든 DB 에서 읽든 같은 위치를 가리키므로, 중간에 읽는 곳이 바뀌어도 이어서 읽을 수 있다.
+ * */
+final class FeedCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private FeedCursor() {
+    }
+
+    static String encode(FeedItem last) {
+        Instant createdAt = last.getCreatedAt();
+        String raw = createdAt.getEpochSecond() + SEPARATOR + createdAt.getNano() + SEPARATOR
+                + last.getType() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 가장 최신부터
+    static FeedKey decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FeedKey.START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 4
+                    || !(FeedItem.TYPE_SCHEDULE.equals(parts[2]) || FeedItem.TYPE_COMMENT.equals(parts[2]))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new FeedKey(createdAt, FeedKey.rank(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
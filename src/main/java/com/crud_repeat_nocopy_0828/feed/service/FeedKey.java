@@ -0,0 +1,49 @@
+package com.crud_repeat_nocopy_0828.feed.service;
+
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+
+import java.time.Instant;
+
+/**
+ * 피드 정렬 키 : created_at 내림차순 → 같은 시각이면 일정이 댓글보다 먼저 → id 내림차순
+ * 일정과 댓글은 id 발급 테이블이 달라서 id 끼리 비교할 수 없으므로 created_at 을 먼저 본다.
+ * compareTo 가 음수면 더 최신 항목이다 (메모리 버퍼와 DB 쿼리가 같은 순서를 쓴다).
+ * */
+record FeedKey(Instant createdAt, int rank, long id) implements Comparable<FeedKey> {
+
+    static final int RANK_COMMENT = 0;
+    static final int RANK_SCHEDULE = 1;
+
+    // 첫 페이지 커서 : 모든 항목보다 앞 (MySQL datetime 최댓값 안쪽)
+    static final FeedKey START = new FeedKey(Instant.parse("9999-12-31T00:00:00Z"), RANK_SCHEDULE + 1, Long.MAX_VALUE);
+
+    static FeedKey of(FeedItem item) {
+        return new FeedKey(item.getCreatedAt(), rank(item.getType()), item.getId());
+    }
+
+    static int rank(String type) {
+        return FeedItem.TYPE_SCHEDULE.equals(type) ? RANK_SCHEDULE : RANK_COMMENT;
+    }
+
+    /**
+     * rank 종류의 행을 DB 에서 이 키 뒤(더 오래된 쪽)부터 읽을 때 쓰는 id 상한
+     * 조건 : created_at < :createdAt or (created_at = :createdAt and id < :idBound)
+     * 같은 시각에서 이 키보다 순서가 앞인 종류면 전부 제외(0), 뒤인 종류면 전부 포함(MAX), 같은 종류면 id 로 자른다.
+     * */
+    long idBoundFor(int rank) {
+        if (rank > this.rank) {
+            return 0L;
+        }
+        return rank < this.rank ? Long.MAX_VALUE : id;
+    }
+
+    @Override
+    public int compareTo(FeedKey other) {
+        int byTime = other.createdAt.compareTo(createdAt);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byRank = Integer.compare(other.rank, rank);
+        return byRank != 0 ? byRank : Long.compare(other.id, id);
+    }
+}
@@ -0,0 +1,85 @@
+package com.crud_repeat_nocopy_0828.feed.service;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.common.entity.BaseEntity;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Schedule / Comment 의 저장·수정·삭제를 활동 피드 타임라인에 반영하는 JPA 엔티티 리스너
+ * SearchIndexListener 와 같은 방식으로 커밋 후에 반영한다 (롤백된 쓰기는 피드에 나오지 않음).
+ * 여기서는 엔티티의 값과 FK(id)만 복사하고 LAZY 연관(작성자 이름 등)은 건드리지 않는다. 나머지는 ActivityFeed 가 채운다.
+ * 벌크 UPDATE 경로(일정/댓글 청크 삭제, 이름 전파)는 호출하는 곳에서 ActivityFeed 를 직접 부른다.
+ * */
+@Component
+public class FeedListener {
+
+    private final ActivityFeed activityFeed;
+
+    // ActivityFeed 는 리포지토리(= EntityManagerFactory)를 쓰는데, 이 리스너는 EntityManagerFactory 를 만드는 도중에 생성된다.
+    // @Lazy 프록시로 받아서 순환 참조 없이 첫 이벤트 때 실제 빈을 찾게 한다.
+    public FeedListener(@Lazy ActivityFeed activityFeed) {
+        this.activityFeed = activityFeed;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        // 삭제 표시(soft delete)도 UPDATE 라서 여기로 온다
+        if (entity instanceof BaseEntity base && base.isDeleted()) {
+            onRemove(entity);
+        } else if (entity instanceof Schedule schedule) {
+            FeedItem item = new FeedItem(schedule.getId(), schedule.getUser().getId(), schedule.getUserName(),
+                    schedule.getTitle(), schedule.getContent(), micros(schedule.getCreatedAt()));
+            afterCommit(() -> activityFeed.scheduleSaved(item));
+        } else if (entity instanceof Comment comment) {
+            Long id = comment.getId();
+            Long scheduleId = comment.getSchedule().getId();
+            Long userId = comment.getUser().getId();
+            String content = comment.getContent();
+            Instant createdAt = micros(comment.getCreatedAt());
+            afterCommit(() -> activityFeed.commentSaved(id, scheduleId, userId, content, createdAt));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Schedule schedule) {
+            Long id = schedule.getId();
+            afterCommit(() -> activityFeed.scheduleRemoved(id));
+        } else if (entity instanceof Comment comment) {
+            Long id = comment.getId();
+            Long scheduleId = comment.getSchedule().getId();
+            Long userId = comment.getUser().getId();
+            afterCommit(() -> activityFeed.commentRemoved(id, scheduleId, userId));
+        }
+    }
+
+    // DB(datetime(6))에서 읽은 값과 커서 비교가 맞도록 마이크로초로 자른다
+    private static Instant micros(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
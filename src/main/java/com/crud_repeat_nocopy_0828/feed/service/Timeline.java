@@ -0,0 +1,173 @@
+package com.crud_repeat_nocopy_0828.feed.service;
+
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 타임라인 하나의 최신 항목 링 버퍼 (크기 고정, 최신순)
+ * 논리 위치 0 이 가장 최신. 새 항목은 거의 항상 맨 앞에 들어가므로 head 를 한 칸 당기는 것으로 끝나고,
+ * 가득 차면 가장 오래된 항목을 버린다. 커밋 순서가 created_at 순서와 조금 어긋나도 제자리를 찾아 끼운다.
+ *
+ * complete : 버퍼보다 오래된 항목이 DB 에 더 없다 (버퍼만으로 끝까지 읽을 수 있음).
+ * 한 번이라도 버리면 false 가 되고, 그때부터 버퍼 밖을 읽는 페이지는 DB 로 넘어간다.
+ * 잠금은 타임라인마다 따로다 (한 사용자의 타임라인 쓰기끼리만 겹친다).
+ * */
+final class Timeline {
+
+    private final FeedItem[] items;
+    private final FeedKey[] keys;
+    private int head;
+    private int size;
+    private boolean complete;
+    private volatile boolean seeded;
+
+    Timeline(int capacity) {
+        this.items = new FeedItem[capacity];
+        this.keys = new FeedKey[capacity];
+    }
+
+    boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * DB 에서 읽은 최신 항목(limit 개까지)을 합친다
+     * 그 사이 이벤트로 들어온 항목과 겹치면 하나로 합친다 (같은 키).
+     * exhaustive : DB 에 이것보다 오래된 항목이 없다
+     * */
+    synchronized void seed(List<FeedItem> newestFirst, boolean exhaustive) {
+        complete = true;
+        newestFirst.forEach(this::upsert);
+        if (!exhaustive) {
+            complete = false;
+        }
+        seeded = true;
+    }
+
+    // 비우고 다시 채우게 한다 (ActivityFeed.reseed)
+    synchronized void reset() {
+        Arrays.fill(items, null);
+        Arrays.fill(keys, null);
+        head = 0;
+        size = 0;
+        complete = false;
+        seeded = false;
+    }
+
+    // 새 항목이면 끼우고, 같은 항목(수정)이면 바꾼다
+    synchronized void upsert(FeedItem item) {
+        FeedKey key = FeedKey.of(item);
+        int found = search(key);
+        if (found >= 0) {
+            set(found, item, key);
+            return;
+        }
+        int at = -found - 1;
+        if (at == size && size > 0 && !complete) {
+            // 버퍼 범위보다 오래된 항목 : 사이에 DB 에만 있는 항목이 있을 수 있어서 넣지 않는다
+            return;
+        }
+        if (size == items.length) {
+            complete = false;
+            if (at == size) {
+                return;
+            }
+            size--;                 // 가장 오래된 항목을 버린다
+        }
+        insert(at, item, key);
+    }
+
+    synchronized void removeIf(Predicate<FeedItem> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            FeedItem item = get(i);
+            if (!filter.test(item)) {
+                set(kept++, item, key(i));
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            set(i, null, null);
+        }
+        size = kept;
+    }
+
+    synchronized void replaceAll(UnaryOperator<FeedItem> operator) {
+        for (int i = 0; i < size; i++) {
+            set(i, operator.apply(get(i)), key(i));
+        }
+    }
+
+    /**
+     * after 위치 다음(더 오래된 쪽)부터 limit 개
+     * 버퍼 끝에 걸리는데 그 뒤가 DB 에 더 있으면 비어 있는 값 → 호출하는 쪽이 DB 에서 읽는다.
+     * */
+    synchronized Optional<List<FeedItem>> after(FeedKey after, int limit) {
+        int found = search(after);
+        int start = found >= 0 ? found + 1 : -found - 1;
+        int end = Math.min(size, start + limit);
+        if (end - start < limit && !complete) {
+            return Optional.empty();
+        }
+        List<FeedItem> page = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            page.add(get(i));
+        }
+        return Optional.of(page);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // 있으면 위치, 없으면 -(끼울 위치) - 1 (Arrays.binarySearch 와 같은 규칙)
+    private int search(FeedKey key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = key(mid).compareTo(key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // head 를 한 칸 당기고 앞쪽 at 개만 한 칸씩 옮긴다 (맨 앞 삽입이면 옮길 것이 없음)
+    private void insert(int at, FeedItem item, FeedKey key) {
+        head = (head - 1 + items.length) % items.length;
+        for (int i = 0; i < at; i++) {
+            set(i, get(i + 1), key(i + 1));
+        }
+        set(at, item, key);
+        size++;
+    }
+
+    private FeedItem get(int index) {
+        return items[slot(index)];
+    }
+
+    private FeedKey key(int index) {
+        return keys[slot(index)];
+    }
+
+    private void set(int index, FeedItem item, FeedKey key) {
+        int slot = slot(index);
+        items[slot] = item;
+        keys[slot] = key;
+    }
+
+    private int slot(int index) {
+        return (head + index) % items.length;
+    }
+}
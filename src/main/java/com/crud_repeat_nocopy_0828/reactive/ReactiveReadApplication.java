@@ -0,0 +1,37 @@
+package com.crud_repeat_nocopy_0828.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * 논블로킹 조회 API (WebFlux + R2DBC) 실행 진입점 : ./gradlew bootRunReactive
+ * 기본 앱(MVC + JPA)과 따로 뜨는 읽기 전용 앱이다. 같은 users / schedules / comments 테이블을 읽고, 쓰기는 기본 앱만 한다.
+ * 요청을 스레드에 묶지 않아서, 몰리는 조회가 스레드 수가 아니라 DB(커넥션 풀)에서 제한된다.
+ *
+ * 이 패키지(reactive)만 스캔하고 JDBC/JPA/Flyway 자동 설정은 끈다 (스키마 마이그레이션은 기본 앱이 한다). 설정은 application-reactive.yml
+ * */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class,
+        FlywayAutoConfiguration.class
+})
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        builder().run(args);
+    }
+
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive");
+    }
+}
@@ -0,0 +1,89 @@
+package com.crud_repeat_nocopy_0828.reactive.controller;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.reactive.repository.ReactiveCommentRepository;
+import com.crud_repeat_nocopy_0828.reactive.repository.ReactiveScheduleRepository;
+import com.crud_repeat_nocopy_0828.reactive.repository.ReactiveUserRepository;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 조회 API (기본 앱의 GET 엔드포인트와 같은 경로, 같은 응답 모양)
+ * 목록은 Flux 로 돌려준다.
+ * - Accept: application/json        → JSON 배열 (행을 읽는 대로 이어서 쓴다)
+ * - Accept: application/x-ndjson    → 한 줄에 하나씩 스트리밍. 클라이언트가 느리면 DB 에서 다음 행을 당겨 오지 않는다 (배압)
+ * */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveScheduleRepository scheduleRepository;
+    private final ReactiveCommentRepository commentRepository;
+
+    @GetMapping(value = "/users", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<UserResponse> findAllUsers() {
+        return userRepository.findAll();
+    }
+
+    @GetMapping("/users/{id}")
+    public Mono<UserResponse> findUser(@PathVariable Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(notFound("사용자를 찾을 수 없습니다."));
+    }
+
+    @GetMapping(value = "/schedules", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ScheduleResponse> findAllSchedules() {
+        return scheduleRepository.findAll();
+    }
+
+    @GetMapping("/schedules/{id}")
+    public Mono<ScheduleResponse> findSchedule(@PathVariable Long id) {
+        return scheduleRepository.findById(id)
+                .switchIfEmpty(notFound("일정을 찾을 수 없습니다."));
+    }
+
+    // 일정이 없으면 404 (빈 목록과 구분), 있으면 댓글을 흘려보낸다
+    @GetMapping(value = "/schedules/{scheduleId}/comments",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CommentResponse> findCommentsBySchedule(@PathVariable Long scheduleId) {
+        return scheduleRepository.existsById(scheduleId)
+                .flatMapMany(exists -> {
+                    if (!exists) {
+                        return Flux.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+                    }
+                    return commentRepository.findAllByScheduleId(scheduleId);
+                });
+    }
+
+    @GetMapping("/comments/{id}")
+    public Mono<CommentResponse> findComment(@PathVariable Long id) {
+        return commentRepository.findById(id)
+                .switchIfEmpty(notFound("댓글을 찾을 수 없습니다."));
+    }
+
+    @GetMapping(value = "/users/{userId}/comments",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CommentResponse> findCommentsByUser(@PathVariable Long userId) {
+        return commentRepository.findAllByUserId(userId);
+    }
+
+    @GetMapping("/users/{userId}/comments/{commentId}")
+    public Mono<CommentResponse> findCommentByUser(@PathVariable Long userId, @PathVariable Long commentId) {
+        return commentRepository.findByUserIdAndId(userId, commentId)
+                .switchIfEmpty(notFound("댓글을 찾을 수 없습니다."));
+    }
+
+    private static <T> Mono<T> notFound(String message) {
+        return Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, message));
+    }
+}
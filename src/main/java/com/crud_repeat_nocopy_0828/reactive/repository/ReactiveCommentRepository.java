@@ -0,0 +1,68 @@
+package com.crud_repeat_nocopy_0828.reactive.repository;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * comments 읽기 (R2DBC)
+ * CommentRepository.RESPONSE 와 같이 작성자 이름은 users 와 한 번 조인해서 같은 SELECT 로 가져온다.
+ * 일정별 조회는 idx_comments_schedule_id_deleted_at_id 를 그대로 탄다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveCommentRepository {
+
+    private static final String SELECT = "select c.id, c.user_id, u.user_name, c.schedule_id, c.content, "
+            + "c.created_at, c.updated_at, c.version from comments c join users u on u.id = c.user_id ";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadProperties properties;
+
+    public Flux<CommentResponse> findAllByScheduleId(Long scheduleId) {
+        return databaseClient.sql(SELECT + "where c.schedule_id = :scheduleId and c.deleted_at is null order by c.id")
+                .bind("scheduleId", scheduleId)
+                .filter(statement -> statement.fetchSize(properties.getFetchSize()))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Flux<CommentResponse> findAllByUserId(Long userId) {
+        return databaseClient.sql(SELECT + "where c.user_id = :userId and c.deleted_at is null order by c.id")
+                .bind("userId", userId)
+                .filter(statement -> statement.fetchSize(properties.getFetchSize()))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Mono<CommentResponse> findById(Long id) {
+        return databaseClient.sql(SELECT + "where c.id = :id and c.deleted_at is null")
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    public Mono<CommentResponse> findByUserIdAndId(Long userId, Long id) {
+        return databaseClient.sql(SELECT + "where c.user_id = :userId and c.id = :id and c.deleted_at is null")
+                .bind("userId", userId)
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    private static CommentResponse toResponse(Row row) {
+        return new CommentResponse(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("schedule_id", Long.class),
+                row.get("content", String.class),
+                Rows.instant(row, "created_at"),
+                Rows.instant(row, "updated_at"),
+                Rows.longValue(row, "version"));
+    }
+}
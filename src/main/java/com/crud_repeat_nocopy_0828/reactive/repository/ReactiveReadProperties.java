@@ -0,0 +1,20 @@
+package com.crud_repeat_nocopy_0828.reactive.repository;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * app.reactive.* (application-reactive.yml)
+ * fetchSize : 목록 조회에서 드라이버가 한 번에 받아 오는 행 수.
+ * 구독자(응답 쓰기)가 느리면 다음 묶음을 요청하지 않으므로, 큰 목록도 서버 메모리에 이 정도만 쌓인다 (배압).
+ * */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("app.reactive")
+public class ReactiveReadProperties {
+
+    private int fetchSize = 256;
+}
@@ -0,0 +1,59 @@
+package com.crud_repeat_nocopy_0828.reactive.repository;
+
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * schedules 읽기 (R2DBC)
+ * ScheduleRepository 와 같이 작성자 이름은 복사본(user_name)을 읽어 users 조인이 없다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveScheduleRepository {
+
+    private static final String SELECT = "select id, user_id, user_name, title, content, comment_count, "
+            + "created_at, updated_at, version from schedules ";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadProperties properties;
+
+    public Flux<ScheduleResponse> findAll() {
+        return databaseClient.sql(SELECT + "where deleted_at is null order by id")
+                .filter(statement -> statement.fetchSize(properties.getFetchSize()))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Mono<ScheduleResponse> findById(Long id) {
+        return databaseClient.sql(SELECT + "where id = :id and deleted_at is null")
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("select 1 from schedules where id = :id and deleted_at is null")
+                .bind("id", id)
+                .map((row, metadata) -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static ScheduleResponse toResponse(Row row) {
+        return new ScheduleResponse(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("title", String.class),
+                row.get("content", String.class),
+                Rows.longValue(row, "comment_count"),
+                Rows.instant(row, "created_at"),
+                Rows.instant(row, "updated_at"),
+                Rows.longValue(row, "version"));
+    }
+}
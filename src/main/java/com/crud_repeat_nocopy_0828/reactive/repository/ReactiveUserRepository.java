@@ -0,0 +1,46 @@
+package com.crud_repeat_nocopy_0828.reactive.repository;
+
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * users 읽기 (R2DBC)
+ * 조회 SQL 과 응답 모양은 UserRepository 의 프로젝션과 같다. 삭제 표시된 행은 직접 거른다 (@SQLRestriction 없음).
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String SELECT = "select id, user_name, email, created_at, updated_at from users ";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveReadProperties properties;
+
+    public Flux<UserResponse> findAll() {
+        return databaseClient.sql(SELECT + "where deleted_at is null order by id")
+                .filter(statement -> statement.fetchSize(properties.getFetchSize()))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Mono<UserResponse> findById(Long id) {
+        return databaseClient.sql(SELECT + "where id = :id and deleted_at is null")
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    private static UserResponse toResponse(Row row) {
+        return new UserResponse(
+                row.get("id", Long.class),
+                row.get("user_name", String.class),
+                row.get("email", String.class),
+                Rows.instant(row, "created_at"),
+                Rows.instant(row, "updated_at"));
+    }
+}
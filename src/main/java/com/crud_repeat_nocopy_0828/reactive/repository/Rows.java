@@ -0,0 +1,45 @@
+package com.crud_repeat_nocopy_0828.reactive.repository;
+
+import io.r2dbc.spi.Row;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * R2DBC 행 값 변환
+ * 하이버네이트는 Instant 를 UTC 기준 datetime(6) 으로 저장한다. 드라이버마다 돌려주는 타입이 달라서
+ * (MySQL = LocalDateTime, H2 = OffsetDateTime 등) 여기서 Instant 로 맞춘다.
+ * */
+final class Rows {
+
+    private Rows() {
+    }
+
+    static Instant instant(Row row, String column) {
+        Object value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof ZonedDateTime zonedDateTime) {
+            return zonedDateTime.toInstant();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toInstant(ZoneOffset.UTC);
+        }
+        throw new IllegalStateException("시각 컬럼 타입을 알 수 없습니다: " + column + " " + value.getClass());
+    }
+
+    static long longValue(Row row, String column) {
+        Object value = row.get(column);
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.crud_repeat_nocopy_0828.schedule.controller;
+
+import com.crud_repeat_nocopy_0828.common.etag.VersionStamp;
+import com.crud_repeat_nocopy_0828.common.job.dto.DeletionJobResponse;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimited;
+import com.crud_repeat_nocopy_0828.common.session.LoginUser;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleUpdateRequest;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleDeletionService;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleStamps;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/schedules")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleDeletionService scheduleDeletionService;
+    private final ScheduleStamps scheduleStamps;
+
+    // 모든 일정 조회
+    @GetMapping
+    public ResponseEntity<List<ScheduleResponse>> findAll() {
+        return ResponseEntity.ok(scheduleService.findAll());
+    }
+
+    // 변경분 동기화 : 처음엔 since(ISO-8601, 생략 시 전체)로, 이후엔 응답의 nextCursor 로 폴링
+    @GetMapping("/changes")
+    public ResponseEntity<ChangesResponse<ScheduleResponse>> findChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Instant since,
+            @RequestParam(defaultValue = "" + ChangesResponse.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(scheduleService.findChanges(cursor, since, size));
+    }
+
+    // 단일 일정 조회
+    // If-None-Match / If-Modified-Since 가 현재 도장과 같으면 본문 없이 304 (도장 캐시 적중 시 DB 조회 없음)
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduleResponse> findById(@PathVariable Long id, WebRequest webRequest) {
+        VersionStamp stamp = scheduleStamps.forSchedule(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+        if (webRequest.checkNotModified(stamp.etag(), stamp.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(scheduleService.findById(id));
+    }
+
+    // 일정 수정. 다른 요청과 부딪혀 반영하지 못하면 409 + 현재 상태
+    @PutMapping("/{id}")
+    @RateLimited("schedule-update")
+    public ResponseEntity<ScheduleResponse> update(
+            @PathVariable Long id,
+            @LoginUser Long loginUserId,
+            @Valid @RequestBody ScheduleUpdateRequest request
+    ) {
+        return ResponseEntity.ok(scheduleService.update(id, loginUserId, request));
+    }
+
+    // 일정 삭제 (댓글 포함). 댓글이 많으면 202 + 삭제 작업 id 를 돌려주고 뒤에서 지운다
+    @DeleteMapping("/{id}")
+    public ResponseEntity<DeletionJobResponse> delete(
+            @PathVariable Long id,
+            @LoginUser Long loginUserId
+    ) {
+        return scheduleDeletionService.delete(id, loginUserId)
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/deletion-jobs/" + job.getId()))
+                        .body(DeletionJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
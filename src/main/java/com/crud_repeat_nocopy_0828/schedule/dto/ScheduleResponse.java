@@ -0,0 +1,52 @@
+package com.crud_repeat_nocopy_0828.schedule.dto;
+
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 일정 조회 응답
+ * JPQL 생성자 표현식으로 필요한 컬럼만 받는 읽기 전용 모델 (엔티티를 로딩하지 않는다)
+ * */
+@Getter
+public class ScheduleResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String userName;
+    private final String title;
+    private final String content;
+    private final long commentCount;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final long version;     // 수정 요청(PUT)에 기대 버전으로 그대로 돌려보낸다
+
+    public ScheduleResponse(Long id, Long userId, String userName, String title, String content,
+                            long commentCount, Instant createdAt, Instant updatedAt, long version) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.title = title;
+        this.content = content;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    // user 는 LAZY 프록시지만 getId() 는 초기화 없이 FK 값만 돌려준다
+    public static ScheduleResponse from(Schedule schedule) {
+        return new ScheduleResponse(
+                schedule.getId(),
+                schedule.getUser().getId(),
+                schedule.getUserName(),
+                schedule.getTitle(),
+                schedule.getContent(),
+                schedule.getCommentCount(),
+                schedule.getCreatedAt(),
+                schedule.getUpdatedAt(),
+                schedule.getVersion()
+        );
+    }
+}
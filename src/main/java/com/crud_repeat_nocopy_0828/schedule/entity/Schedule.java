@@ -1,19 +1,50 @@
 package com.crud_repeat_nocopy_0828.schedule.entity;
 
 import com.crud_repeat_nocopy_0828.common.entity.BaseEntity;
+import com.crud_repeat_nocopy_0828.feed.service.FeedListener;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndexListener;
 import com.crud_repeat_nocopy_0828.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "schedules",
+        indexes = {
+                @Index(name = "idx_schedules_updated_at_id", columnList = "updated_at, id"),
+                @Index(name = "idx_schedules_deleted_at_id", columnList = "deleted_at, id"),
+                @Index(name = "idx_schedules_user_id_id", columnList = "user_id, id"),
+                @Index(name = "idx_schedules_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_schedules_user_id_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
+// 테이블명은 ReadMe_SQL.md 의 schedules 와 맞춘다.
+// (updated_at, id) 복합 인덱스 : 변경분 동기화(GET /schedules/changes)를 키셋으로 이어서 읽는 용도
+// (deleted_at, id) 복합 인덱스 : 보관 기간이 지난 삭제 표시 행을 TombstonePurger 가 오래된 순으로 찾는 용도
+// (user_id, id) 복합 인덱스 : 한 사용자의 일정을 id 순으로 읽는 경로 (내보내기, 회원 탈퇴)
+// (created_at, id), (user_id, created_at, id) 복합 인덱스 : 활동 피드가 메모리 버퍼 밖을 DB 에서 최신순 키셋으로 읽는 용도
+@SQLRestriction("deleted_at is null")
+// 삭제 표시된 행은 JPQL/파생 쿼리/id 조회 어디서든 자동으로 빠진다 (네이티브 쿼리는 직접 조건을 넣어야 함)
+@NamedEntityGraph(name = "Schedule.withUser", attributeNodes = @NamedAttributeNode("user"))
+// 작성자까지 한 번에 읽어야 하는 경로에서 쓰는 페치 플랜 (LAZY 인 user 를 조인으로 같이 로딩)
+@EntityListeners({SearchIndexListener.class, FeedListener.class})
+// 저장/수정/삭제를 검색 색인, 활동 피드에 반영
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedules")
+// 2차 캐시 대상 (resources/application.conf 의 schedules 영역)
 public class Schedule extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id")
+    @TableGenerator(name = "schedule_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "schedules", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,10 +62,22 @@ public class Schedule extends BaseEntity {
     private String title;
     private String content;
 
+    // 댓글 수 (비정규화). 목록에서 일정마다 COUNT(*) 를 돌리지 않기 위해 둔다.
+    // 엔티티 UPDATE 로는 쓰지 않고(updatable = false) ScheduleRepository 의 원자적 증감 쿼리로만 바꾼다.
+    // → 일정 수정과 댓글 작성이 동시에 일어나도 읽은 값을 덮어써서 증가분을 잃지 않는다.
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
     public Schedule(User user, String userName, String title, String content) {
         this.user = user;
         this.userName = userName;
         this.title = title;
         this.content = content;
     }
+
+    // 일정 수정 (PUT /schedules/{id}). 변경 감지 UPDATE 에 "where version = ?" 가 붙어서 동시 수정이 덮어써지지 않는다
+    public void update(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
 }
\ No newline at end of file
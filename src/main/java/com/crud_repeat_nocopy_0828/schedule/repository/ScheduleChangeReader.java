@@ -0,0 +1,66 @@
+package com.crud_repeat_nocopy_0828.schedule.repository;
+
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeRow;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 변경분 동기화(/schedules/changes) 읽기 : 수정된 행과 삭제 표시 행을 (updated_at, id) 순서로 한 번에
+ * 엔티티 쿼리는 @SQLRestriction 으로 삭제 표시 행을 빼 버리므로 네이티브 쿼리로 읽는다. 조건은 기존 키셋과 같고
+ * (idx_schedules_updated_at_id 범위 스캔), 삭제 표시 행은 보관 기간(retainedSince) 안의 것만 돌려준다.
+ * 시각 컬럼은 INSTANT 로 지정해서 엔티티와 같은 방식(UTC)으로 읽는다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleChangeReader {
+
+    private static final String CHANGED_AFTER = "select s.id, s.user_id, s.user_name, s.title, s.content, s.comment_count, "
+            + "s.created_at, s.updated_at, s.version, s.deleted_at from schedules s "
+            + "where s.updated_at >= :since and (s.updated_at > :since or s.id > :lastId) and s.updated_at < :until "
+            + "and (s.deleted_at is null or s.deleted_at >= :retainedSince) "
+            + "order by s.updated_at, s.id";
+
+    private final EntityManager em;
+
+    @SuppressWarnings("unchecked")
+    public List<ChangeRow<ScheduleResponse>> findChangedAfter(Instant since, long lastId, Instant until,
+                                                              Instant retainedSince, int limit) {
+        List<Object[]> rows = em.createNativeQuery(CHANGED_AFTER)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("user_id", StandardBasicTypes.LONG)
+                .addScalar("user_name", StandardBasicTypes.STRING)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("content", StandardBasicTypes.STRING)
+                .addScalar("comment_count", StandardBasicTypes.LONG)
+                .addScalar("created_at", StandardBasicTypes.INSTANT)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("deleted_at", StandardBasicTypes.INSTANT)
+                .setParameter("since", since)
+                .setParameter("lastId", lastId)
+                .setParameter("until", until)
+                .setParameter("retainedSince", retainedSince)
+                .setMaxResults(limit)
+                .getResultList();
+        return rows.stream().map(ScheduleChangeReader::toRow).toList();
+    }
+
+    private static ChangeRow<ScheduleResponse> toRow(Object[] r) {
+        Long id = (Long) r[0];
+        Instant updatedAt = (Instant) r[7];
+        Instant deletedAt = (Instant) r[9];
+        if (deletedAt != null) {
+            return new ChangeRow<>(id, updatedAt, deletedAt, null);
+        }
+        return new ChangeRow<>(id, updatedAt, null, new ScheduleResponse(id, (Long) r[1], (String) r[2], (String) r[3],
+                (String) r[4], (Long) r[5], (Instant) r[6], updatedAt, (Long) r[8]));
+    }
+}
@@ -0,0 +1,172 @@
+package com.crud_repeat_nocopy_0828.schedule.repository;
+
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    /**
+     * 활동 피드 (ActivityFeed 의 DB 경로) : (created_at, id) 키셋을 최신순으로
+     * idBound 는 FeedKey.idBoundFor 로 만든다. 같은 시각의 댓글과 순서를 맞추기 위한 값이다.
+     * 작성자 이름은 복사본(user_name)을 읽어 users 조인이 없다.
+     * */
+    String FEED = "select new com.crud_repeat_nocopy_0828.feed.dto.FeedItem("
+            + "s.id, s.user.id, s.userName, s.title, s.content, s.createdAt) from Schedule s ";
+    String FEED_BEFORE = "(s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :idBound)) "
+            + "order by s.createdAt desc, s.id desc";
+
+    // 전체 피드 (idx_schedules_created_at_id)
+    @Query(FEED + "where " + FEED_BEFORE)
+    List<FeedItem> findFeedBefore(Instant createdAt, Long idBound, Limit limit);
+
+    // 한 사용자의 일정 (idx_schedules_user_id_created_at_id)
+    @Query(FEED + "where s.user.id = :userId and " + FEED_BEFORE)
+    List<FeedItem> findFeedByUserIdBefore(Long userId, Instant createdAt, Long idBound, Limit limit);
+
+    // s.user.id 는 FK 컬럼(user_id)을 그대로 읽으므로 users 조인이 생기지 않는다
+    @Query("select new com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse("
+            + "s.id, s.user.id, s.userName, s.title, s.content, s.commentCount, s.createdAt, s.updatedAt, s.version) "
+            + "from Schedule s order by s.id")
+    List<ScheduleResponse> findAllResponses();
+
+    @Query("select new com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse("
+            + "s.id, s.user.id, s.userName, s.title, s.content, s.commentCount, s.createdAt, s.updatedAt, s.version) "
+            + "from Schedule s where s.id = :id")
+    Optional<ScheduleResponse> findResponseById(Long id);
+
+    // id 키셋 배치 읽기 (검색 색인 재구성 등)
+    @Query("select new com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse("
+            + "s.id, s.user.id, s.userName, s.title, s.content, s.commentCount, s.createdAt, s.updatedAt, s.version) "
+            + "from Schedule s where s.id > :lastId order by s.id")
+    List<ScheduleResponse> findResponsesAfter(Long lastId, Limit limit);
+
+    // 작성자 엔티티까지 필요한 경로에서 쓰는 페치 조인
+    @EntityGraph("Schedule.withUser")
+    Optional<Schedule> findWithUserById(Long id);
+
+    /**
+     * 댓글 수 원자적 증감
+     * UPDATE schedules SET comment_count = comment_count + ?, updated_at = ? WHERE id = ?
+     * 읽고-더하고-쓰는 방식이 아니라 DB 가 행 잠금 안에서 더하므로 동시 작성자끼리 증가분을 잃지 않는다.
+     * updated_at 도 같이 옮겨서 "이 일정이나 그 댓글 목록이 마지막으로 바뀐 시각"으로 쓴다
+     * (변경분 동기화, 댓글 목록 ETag/Last-Modified). version 은 올리지 않아 일정 수정과 충돌하지 않는다.
+     *
+     * 동기화 공간(query space)은 실제로 고치는 schedules 다. Hibernate 가 실행 전에 밀린 Schedule 변경을 flush 하고
+     * schedules 2차 캐시 영역을 비운다. 이 일정의 캐시 항목과 ETag 도장은 ScheduleCommentCounter 가 커밋 후에 한 번 더 지운다
+     * (영역을 비운 뒤 커밋 전에 다른 요청이 예전 값을 다시 올려 두는 경우).
+     * 직접 호출하지 말고 ScheduleCommentCounter 를 거칠 것.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules set comment_count = comment_count + :delta, updated_at = :now where id = :id",
+            nativeQuery = true)
+    int addCommentCount(Long id, long delta, Instant now);
+
+    /**
+     * 여러 일정의 댓글 목록이 바뀐 시각(updated_at)만 옮긴다 (댓글 작성자 이름 변경 → 댓글 목록 ETag 갱신)
+     * comment_count, version 은 그대로다. 직접 호출하지 말고 ScheduleCommentCounter 를 거칠 것.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules set updated_at = :now where id in (:ids)", nativeQuery = true)
+    int touchAllByIdIn(Collection<Long> ids, Instant now);
+
+    // 댓글 수 보정 대상 id 구간을 키셋으로 잘라 읽는다
+    @Query("select s.id from Schedule s where s.id > :lastId order by s.id")
+    List<Long> findIdsAfter(Long lastId, Limit limit);
+
+    /**
+     * 댓글 수 보정(reconcile)
+     * id 구간 안에서 실제 COUNT 와 다른 일정만 고친다.
+     * COUNT 서브쿼리는 comments(schedule_id, deleted_at, id) 인덱스만 읽는다. 삭제 표시된 댓글은 세지 않는다.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules s "
+            + "set s.comment_count = (select count(*) from comments c where c.schedule_id = s.id and c.deleted_at is null) "
+            + "where s.id between :fromId and :toId "
+            + "and s.comment_count <> (select count(*) from comments c where c.schedule_id = s.id and c.deleted_at is null)",
+            nativeQuery = true)
+    int reconcileCommentCounts(Long fromId, Long toId);
+
+    // 회원 탈퇴 시 그 회원의 일정 id 를 키셋 청크로 읽는다 (user_id FK 인덱스)
+    @Query("select s.id from Schedule s where s.user.id = :userId order by s.id")
+    List<Long> findIdsByUserId(Long userId, Limit limit);
+
+    // 작성자 이름 전파용 키셋 청크 (idx_schedules_user_id_id 범위 스캔)
+    @Query("select s.id from Schedule s where s.user.id = :userId and s.id > :lastId order by s.id")
+    List<Long> findIdsByUserIdAfter(Long userId, Long lastId, Limit limit);
+
+    /**
+     * 작성자 이름 전파 : 한 사용자의 일정 id 구간을 UPDATE 한 번으로 고친다
+     * WHERE user_id = ? AND id BETWEEN ? AND ? 라서 idx_schedules_user_id_id 범위만 잠근다.
+     * 이미 같은 이름인 행은 건드리지 않는다 (재실행해도 결과가 같음).
+     * version 을 올려서 일정 ETag 가 바뀌고, 이름만 바뀐 줄 모르고 보낸 예전 버전의 수정은 409 가 된다.
+     * updated_at 도 옮겨서 변경분 동기화(/schedules/changes)가 새 이름을 가져가게 한다.
+     * 청크의 id 는 AuthorNamePropagator 가 커밋 후에 2차 캐시와 ETag 도장에서 제거한다.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules set user_name = :userName, version = version + 1, updated_at = :now "
+            + "where user_id = :userId and id between :fromId and :toId and user_name <> :userName",
+            nativeQuery = true)
+    int renameAuthor(Long userId, Long fromId, Long toId, String userName, Instant now);
+
+    /**
+     * 작성자 이름 보정(consistency check)
+     * id 구간 안에서 users.user_name 과 다른 일정만 고친다 (전파가 실패했거나 노드가 죽어서 남은 행).
+     * 새벽 배치라 reconcileCommentCounts 처럼 schedules 영역을 통째로 비운다.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules s "
+            + "set s.user_name = (select u.user_name from users u where u.id = s.user_id), "
+            + "s.version = s.version + 1, s.updated_at = :now "
+            + "where s.id between :fromId and :toId "
+            + "and s.user_name <> (select u.user_name from users u where u.id = s.user_id)",
+            nativeQuery = true)
+    int reconcileAuthorNames(Long fromId, Long toId, Instant now);
+
+    /**
+     * 일정 청크 삭제 표시 : UPDATE schedules SET deleted_at = ?, updated_at = ? WHERE id IN (...)
+     * 표시한 id 의 2차 캐시 항목, ETag 도장은 ScheduleDeletionService 가 커밋 후에 제거한다.
+     * */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "update schedules set deleted_at = :now, updated_at = :now "
+            + "where id in (:ids) and deleted_at is null", nativeQuery = true)
+    int softDeleteAllByIdIn(Collection<Long> ids, Instant now);
+
+    /*
+     * 여기부터는 TombstonePurger 전용 물리 삭제 쿼리 (삭제 표시된 행도 포함해서 읽는 네이티브 쿼리)
+     * */
+
+    // 보관 기간이 지난 삭제 표시 일정 (idx_schedules_deleted_at_id 범위 스캔)
+    @Query(value = "select id from schedules where deleted_at < :cutoff order by deleted_at, id limit :limit",
+            nativeQuery = true)
+    List<Long> findTombstonedIds(Instant cutoff, int limit);
+
+    // 지워질 회원에 남아 있는 일정 (삭제 표시 여부와 상관없이)
+    @Query(value = "select id from schedules where user_id = :userId limit :limit", nativeQuery = true)
+    List<Long> findAllIdsByUserId(Long userId, int limit);
+
+    // 댓글은 먼저 지워져 있어야 한다(FK). 지운 id 의 2차 캐시 항목은 TombstonePurger 가 커밋 후에 제거한다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(value = "delete from schedules where id in (:ids)", nativeQuery = true)
+    int purgeAllByIdIn(Collection<Long> ids);
+}
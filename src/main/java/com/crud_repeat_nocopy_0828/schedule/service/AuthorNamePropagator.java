@@ -0,0 +1,185 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.feed.service.ActivityFeed;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schedule.userName(작성자 이름 복사본) 전파
+ * 일정 목록은 users 조인 없이 schedules 만 읽도록 이름을 복사해 두고, 이름이 바뀌면 여기서 뒤따라 고친다.
+ *
+ * - 이름 변경 커밋 후 백그라운드에서 그 사용자의 일정을 id 청크로 잘라 청크마다 UPDATE 한 번 + 커밋
+ *   (행마다 엔티티를 읽어 고치는 UPDATE 폭주 없음, 긴 잠금 없음)
+ * - 이름은 작업을 시작할 때 users 에서 다시 읽는다. 연달아 바꿔도 마지막 이름으로 수렴하고,
+ *   아직 대기 중인 같은 사용자의 작업은 하나로 합친다.
+ * - 댓글의 작성자 이름은 users 조인으로 읽어 고칠 컬럼이 없지만, 응답은 바뀐다.
+ *   그 사용자의 댓글 updated_at 과 댓글이 달린 일정의 updated_at 을 청크마다 옮겨서
+ *   변경분 동기화(/comments/changes)와 댓글 목록 ETag 가 새 이름을 가져가게 한다.
+ * - 전파 중에는 잠깐 예전 이름이 보일 수 있다. 실패하거나 노드가 죽어 남은 일정 행은 AuthorNameReconciler 가 고친다.
+ * */
+@Slf4j
+@Component
+public class AuthorNamePropagator {
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final ScheduleCommentCounter scheduleCommentCounter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScheduleStamps scheduleStamps;
+    private final ActivityFeed activityFeed;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter renamedRows;
+    private final int chunkSize;
+
+    // 큐에 들어가 있고 아직 시작하지 않은 사용자
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public AuthorNamePropagator(
+            UserRepository userRepository,
+            ScheduleRepository scheduleRepository,
+            CommentRepository commentRepository,
+            ScheduleCommentCounter scheduleCommentCounter,
+            EntityManagerFactory entityManagerFactory,
+            ScheduleStamps scheduleStamps,
+            ActivityFeed activityFeed,
+            @Qualifier("authorNameExecutor") ThreadPoolTaskExecutor executor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.author-name.chunk-size:500}") int chunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.scheduleCommentCounter = scheduleCommentCounter;
+        this.entityManagerFactory = entityManagerFactory;
+        this.scheduleStamps = scheduleStamps;
+        this.activityFeed = activityFeed;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.renamedRows = meterRegistry.counter("author_name.propagated.rows");
+        this.chunkSize = chunkSize;
+    }
+
+    // 이름을 바꾸는 트랜잭션 안에서 호출. 커밋되어야 작업이 나간다 (롤백되면 아무 일도 없음)
+    public void propagateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(userId);
+            }
+        });
+    }
+
+    private void submit(Long userId) {
+        if (!pending.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                pending.remove(userId);
+                try {
+                    propagate(userId);
+                } catch (RuntimeException e) {
+                    log.warn("author name propagation failed: user {}", userId, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 큐가 가득 찼다. 이름 변경 자체는 커밋됐으니 보정 작업에 맡긴다
+            pending.remove(userId);
+            log.warn("author name propagation rejected: user {}", userId);
+        }
+    }
+
+    // 고친 행 수. 청크마다 트랜잭션이 따로다
+    public int propagate(Long userId) {
+        Optional<String> userName = userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
+                .map(User::getUserName);
+        if (userName.isEmpty()) {
+            return 0;
+        }
+
+        int renamed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = scheduleRepository.findIdsByUserIdAfter(userId, lastId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = scheduleRepository.renameAuthor(userId, fromId, toId, userName.get(),
+                        Instant.now().truncatedTo(ChronoUnit.MICROS));
+                if (count > 0) {
+                    evictAfterCommit(ids);
+                }
+                return count;
+            });
+            renamed += updated == null ? 0 : updated;
+            lastId = toId;
+        }
+        renamedRows.increment(renamed);
+        touchComments(userId);
+        // 피드 버퍼의 일정/댓글 항목도 새 이름으로
+        activityFeed.renameAuthor(userId, userName.get());
+        return renamed;
+    }
+
+    // 그 사용자의 댓글과, 댓글이 달린 일정(댓글 목록 ETag)을 청크마다 한 트랜잭션으로 옮긴다
+    private void touchComments(Long userId) {
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = commentRepository.findIdsByUserIdAfter(userId, lastId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                commentRepository.touchAllByIdIn(ids, Instant.now().truncatedTo(ChronoUnit.MICROS));
+                scheduleCommentCounter.touchAll(commentRepository.findScheduleIdsByIdIn(ids));
+            });
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    // 2차 캐시, ETag 도장은 청크에 든 id 만 커밋 후에 정리한다
+    private void evictAfterCommit(List<Long> scheduleIds) {
+        scheduleIds.forEach(scheduleStamps::evictAfterCommit);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleIds.forEach(id -> entityManagerFactory.getCache().evict(Schedule.class, id));
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Schedule.userName 보정 작업 (작성자 이름 일관성 검사)
+ * 평소엔 AuthorNamePropagator 가 맞춰 두지만, 전파가 실패했거나 전파 중 노드가 죽어 남은 행을 배치 단위로 고친다.
+ * CommentCountReconciler 와 같은 방식으로 id 구간마다 트랜잭션을 따로 커밋한다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorNameReconciler {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.author-name.reconcile-batch-size:500}")
+    private int batchSize;
+
+    // 고친 행 수
+    @Scheduled(cron = "${app.author-name.reconcile-cron:0 30 4 * * *}")
+    public int reconcileAll() {
+        long lastId = 0L;
+        int fixed = 0;
+        while (true) {
+            List<Long> ids = scheduleRepository.findIdsAfter(lastId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(status ->
+                    scheduleRepository.reconcileAuthorNames(fromId, toId, Instant.now().truncatedTo(ChronoUnit.MICROS)));
+            fixed += updated == null ? 0 : updated;
+            lastId = toId;
+        }
+        if (fixed > 0) {
+            log.warn("author name reconcile finished: {} schedules had a stale user_name", fixed);
+        } else {
+            log.info("author name reconcile finished: no stale user_name");
+        }
+        return fixed;
+    }
+}
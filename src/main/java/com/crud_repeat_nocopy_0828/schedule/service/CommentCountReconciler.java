@@ -0,0 +1,47 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Schedule.commentCount 보정 작업
+ * 원자적 증감으로 평소엔 맞지만, 수동 데이터 수정/장애 등으로 어긋난 값을 배치 단위로 고친다.
+ * 배치마다 트랜잭션을 따로 커밋해서 한 번에 오래 잠금을 잡지 않는다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.comment-count.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.comment-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        long lastId = 0L;
+        int fixed = 0;
+        while (true) {
+            List<Long> ids = scheduleRepository.findIdsAfter(lastId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> scheduleRepository.reconcileCommentCounts(fromId, toId));
+            fixed += updated == null ? 0 : updated;
+            lastId = toId;
+        }
+        log.info("comment_count reconcile finished: {} schedules fixed", fixed);
+    }
+}
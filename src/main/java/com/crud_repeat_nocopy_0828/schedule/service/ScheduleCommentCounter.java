@@ -0,0 +1,65 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+
+/**
+ * Schedule.commentCount 증감 + 해당 일정의 2차 캐시 항목, ETag 도장 제거
+ * 캐시 제거는 커밋 이후에 해야, 커밋 전 값을 다른 요청이 다시 캐시에 올려 두는 일을 줄일 수 있다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCommentCounter {
+
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScheduleStamps scheduleStamps;
+
+    public void add(Long scheduleId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        scheduleRepository.addCommentCount(scheduleId, delta, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        evictAfterCommit(scheduleId);
+        scheduleStamps.evictAfterCommit(scheduleId);
+    }
+
+    // 댓글 수는 그대로 두고 목록이 바뀐 시각(updated_at)만 옮긴다 (댓글 수정 → 댓글 목록 ETag 갱신)
+    public void touch(Long scheduleId) {
+        scheduleRepository.addCommentCount(scheduleId, 0, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        evictAfterCommit(scheduleId);
+        scheduleStamps.evictAfterCommit(scheduleId);
+    }
+
+    // touch 를 여러 일정에 UPDATE 한 번으로 (일정 id 순으로 넘길 것)
+    public void touchAll(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        scheduleRepository.touchAllByIdIn(scheduleIds, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        scheduleIds.forEach(this::evictAfterCommit);
+        scheduleIds.forEach(scheduleStamps::evictAfterCommit);
+    }
+
+    private void evictAfterCommit(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Schedule.class, scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Schedule.class, scheduleId);
+            }
+        });
+    }
+}
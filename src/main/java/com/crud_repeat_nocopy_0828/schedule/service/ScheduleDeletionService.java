@@ -0,0 +1,120 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.comment.service.CommentBulkDeleter;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJobRunner;
+import com.crud_repeat_nocopy_0828.feed.service.ActivityFeed;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일정 삭제 (댓글 포함)
+ * 일정은 요청 안에서 바로 삭제 표시(UPDATE 한 건)해서 조회에서 곧바로 빠지게 하고,
+ * 댓글은 청크마다 별도 트랜잭션으로 삭제 표시한다. 댓글이 많으면 DeletionJobRunner 가 비동기 작업으로 돌린다.
+ * 실제 행 삭제는 TombstonePurger 가 한가한 시간에 한다.
+ * */
+@Service
+public class ScheduleDeletionService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final CommentBulkDeleter commentBulkDeleter;
+    private final DeletionJobRunner deletionJobRunner;
+    private final SearchIndex searchIndex;
+    private final ActivityFeed activityFeed;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ScheduleStamps scheduleStamps;
+    private final TransactionTemplate transactionTemplate;
+
+    public ScheduleDeletionService(
+            ScheduleRepository scheduleRepository,
+            CommentRepository commentRepository,
+            CommentBulkDeleter commentBulkDeleter,
+            DeletionJobRunner deletionJobRunner,
+            SearchIndex searchIndex,
+            ActivityFeed activityFeed,
+            EntityManagerFactory entityManagerFactory,
+            ScheduleStamps scheduleStamps,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.commentBulkDeleter = commentBulkDeleter;
+        this.deletionJobRunner = deletionJobRunner;
+        this.searchIndex = searchIndex;
+        this.activityFeed = activityFeed;
+        this.entityManagerFactory = entityManagerFactory;
+        this.scheduleStamps = scheduleStamps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 비어 있으면 요청 안에서 삭제가 끝난 것, 있으면 비동기로 진행 중인 작업
+    public Optional<DeletionJob> delete(Long scheduleId, Long loginUserId) {
+        ScheduleResponse schedule = scheduleRepository.findResponseById(scheduleId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+        if (!schedule.getUserId().equals(loginUserId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 작성한 일정만 삭제할 수 있습니다.");
+        }
+        long comments = commentRepository.countByScheduleId(scheduleId);
+        List<Long> scheduleIds = List.of(scheduleId);
+        int marked = softDelete(scheduleIds);
+        return deletionJobRunner.run("schedule:" + scheduleId, comments, job -> {
+            job.addDeletedSchedules(marked);
+            commentBulkDeleter.deleteBySchedules(scheduleIds, job);
+        });
+    }
+
+    /**
+     * 일정 청크 삭제 (회원 탈퇴에서 사용)
+     * 일정을 먼저 삭제 표시하고 댓글을 청크 트랜잭션으로 표시한다.
+     * 그 사이 새로 달린 댓글이 남더라도 TombstonePurger 가 일정을 지울 때 같이 지운다.
+     * */
+    public void deleteSchedules(List<Long> scheduleIds, DeletionJob job) {
+        job.addDeletedSchedules(softDelete(scheduleIds));
+        commentBulkDeleter.deleteBySchedules(scheduleIds, job);
+    }
+
+    // 2차 캐시, ETag 도장, 검색 색인, 활동 피드(일정 + 그 댓글 항목)는 표시한 id 만 커밋 후에 정리한다
+    private int softDelete(List<Long> scheduleIds) {
+        Integer marked = transactionTemplate.execute(status -> {
+            int count = scheduleRepository.softDeleteAllByIdIn(scheduleIds, Instant.now().truncatedTo(ChronoUnit.MICROS));
+            scheduleIds.forEach(scheduleStamps::evictAfterCommit);
+            afterCommit(() -> {
+                scheduleIds.forEach(id -> entityManagerFactory.getCache().evict(Schedule.class, id));
+                searchIndex.delete(SearchIndex.TYPE_SCHEDULE, scheduleIds);
+                activityFeed.removeSchedules(scheduleIds);
+            });
+            return count;
+        });
+        return marked == null ? 0 : marked;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
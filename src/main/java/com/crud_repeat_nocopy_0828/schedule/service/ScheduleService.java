@@ -0,0 +1,114 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.common.concurrency.ConflictException;
+import com.crud_repeat_nocopy_0828.common.concurrency.OptimisticRetry;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeCursorCodec;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeRow;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleUpdateRequest;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleChangeReader;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleService {
+
+    private static final String CHANGES_SCOPE = "schedules";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleChangeReader scheduleChangeReader;
+    private final ScheduleStamps scheduleStamps;
+    private final OptimisticRetry optimisticRetry;
+
+    // 이보다 최근에 바뀐 행은 아직 커밋 전일 수 있어서 다음 폴링으로 미룬다 (늦게 커밋된 행을 건너뛰지 않도록)
+    @Value("${app.sync.settle-lag-ms:2000}")
+    private long settleLagMs;
+
+    // 삭제 표시 보관 기간 (TombstonePurger 와 같은 값). 이보다 오래된 커서는 그 사이 삭제를 놓쳤을 수 있다
+    @Value("${app.soft-delete.retention:P1D}")
+    private Duration retention;
+
+    @Transactional(readOnly = true)
+    public List<ScheduleResponse> findAll() {
+        return scheduleRepository.findAllResponses();
+    }
+
+    // 단건 조회는 id 로 엔티티를 읽어서 2차 캐시를 탄다 (캐시 적중 시 DB 조회 없음)
+    @Transactional(readOnly = true)
+    public ScheduleResponse findById(Long id) {
+        return ScheduleResponse.from(findSchedule(id));
+    }
+
+    /**
+     * 일정 수정 (낙관적 잠금)
+     * 비관적 잠금(SELECT ... FOR UPDATE)을 쓰면 인기 일정의 수정/조회가 줄을 서게 되므로 잠금 없이 읽고,
+     * 커밋할 때 version 으로 충돌을 확인한다. 충돌하면 OptimisticRetry 가 새 트랜잭션에서 다시 읽어 재시도한다.
+     * 요청에 기대 버전이 있고 현재 버전과 다르면 재시도 없이 409 + 현재 상태.
+     * */
+    public ScheduleResponse update(Long id, Long loginUserId, ScheduleUpdateRequest request) {
+        return optimisticRetry.execute(retrying -> {
+            // 기대 버전과 비교하거나 충돌 뒤 다시 읽을 때는 2차 캐시가 아니라 DB 의 현재 버전을 본다.
+            // 그 외에는 캐시에서 읽고, 늦은 버전이면 UPDATE ... WHERE version = ? 가 충돌로 알려 준다
+            Schedule schedule = request.getVersion() != null || retrying ? findFreshSchedule(id) : findSchedule(id);
+            if (!schedule.getUser().getId().equals(loginUserId)) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인이 작성한 일정만 수정할 수 있습니다.");
+            }
+            if (request.getVersion() != null && request.getVersion() != schedule.getVersion()) {
+                throw conflict(schedule);
+            }
+            schedule.update(request.getTitle(), request.getContent());
+            scheduleRepository.flush();     // 버전 충돌을 재시도 안에서 확인하기 위해 커밋 전에 UPDATE 를 내보낸다
+            scheduleStamps.evictAfterCommit(id);
+            return ScheduleResponse.from(schedule);
+        }, () -> new ConflictException("다른 요청이 먼저 일정을 수정했습니다.",
+                scheduleRepository.findResponseById(id).orElse(null)));
+    }
+
+    /**
+     * since(또는 이전 응답의 cursor) 이후 바뀐 일정을 (updated_at, id) 순으로 읽는다.
+     * 삭제 표시된 일정은 items 가 아니라 deleted 에 id + 삭제 시각(tombstone)으로 나온다.
+     * tombstone 은 app.soft-delete.retention 동안만 남으므로, 그보다 오래된 커서는 410 이다 (전체를 다시 받는다).
+     * */
+    @Transactional(readOnly = true)
+    public ChangesResponse<ScheduleResponse> findChanges(String cursor, Instant since, int size) {
+        int pageSize = Math.min(Math.max(size, 1), ChangesResponse.MAX_PAGE_SIZE);
+        ChangeCursorCodec.Position from = ChangeCursorCodec.decode(cursor, CHANGES_SCOPE, since);
+        Instant until = Instant.now().minusMillis(settleLagMs);
+
+        Instant retainedSince = Instant.now().minus(retention);
+        ChangeCursorCodec.requireRetained(from, retainedSince);
+
+        List<ChangeRow<ScheduleResponse>> rows = scheduleChangeReader.findChangedAfter(
+                from.updatedAt(), from.lastId(), until, retainedSince, pageSize + 1);
+        return ChangesResponse.of(rows, pageSize, CHANGES_SCOPE, from, until);
+    }
+
+    private Schedule findSchedule(Long id) {
+        return scheduleRepository.findById(id)
+                .filter(schedule -> !schedule.isDeleted())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+    }
+
+    private Schedule findFreshSchedule(Long id) {
+        return optimisticRetry.findFresh(Schedule.class, id)
+                .filter(schedule -> !schedule.isDeleted())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정을 찾을 수 없습니다."));
+    }
+
+    private static ConflictException conflict(Schedule current) {
+        return new ConflictException("일정이 그 사이 수정되었습니다. 현재 상태를 확인하고 다시 요청해 주세요.",
+                ScheduleResponse.from(current));
+    }
+}
@@ -0,0 +1,65 @@
+package com.crud_repeat_nocopy_0828.schedule.service;
+
+import com.crud_repeat_nocopy_0828.common.etag.VersionStamp;
+import com.crud_repeat_nocopy_0828.common.etag.VersionStampCache;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일정 단건과 일정의 댓글 목록 ETag
+ * 둘 다 Schedule 엔티티(2차 캐시) 하나에서 계산한다.
+ * - 일정      : version(제목/내용 수정) + commentCount
+ * - 댓글 목록 : commentCount + updated_at (댓글 작성/삭제/수정, 댓글 작성자 이름 변경 때마다 일정의 updated_at 이 옮겨진다)
+ * */
+@Component
+@RequiredArgsConstructor
+public class ScheduleStamps {
+
+    private final ScheduleRepository scheduleRepository;
+    private final VersionStampCache versionStampCache;
+
+    public Optional<VersionStamp> forSchedule(Long scheduleId) {
+        return versionStampCache.get(scheduleKey(scheduleId), key -> load(scheduleId)
+                .map(s -> new VersionStamp("s" + s.getId() + "-" + s.getVersion() + "-" + s.getCommentCount(),
+                        millis(s.getUpdatedAt())))
+                .orElse(null));
+    }
+
+    public Optional<VersionStamp> forComments(Long scheduleId) {
+        return versionStampCache.get(commentsKey(scheduleId), key -> load(scheduleId)
+                .map(s -> new VersionStamp("c" + s.getId() + "-" + s.getCommentCount() + "-" + micros(s.getUpdatedAt()),
+                        millis(s.getUpdatedAt())))
+                .orElse(null));
+    }
+
+    // 일정 또는 그 댓글 목록이 바뀌는 쓰기 트랜잭션 안에서 호출
+    public void evictAfterCommit(Long scheduleId) {
+        versionStampCache.evictAfterCommit(List.of(scheduleKey(scheduleId), commentsKey(scheduleId)));
+    }
+
+    private Optional<Schedule> load(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId).filter(schedule -> !schedule.isDeleted());
+    }
+
+    private static String scheduleKey(Long scheduleId) {
+        return "schedule:" + scheduleId;
+    }
+
+    private static String commentsKey(Long scheduleId) {
+        return "schedule-comments:" + scheduleId;
+    }
+
+    private static long millis(Instant instant) {
+        return instant == null ? -1 : instant.toEpochMilli();
+    }
+
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
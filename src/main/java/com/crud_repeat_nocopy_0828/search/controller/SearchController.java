@@ -0,0 +1,32 @@
+package com.crud_repeat_nocopy_0828.search.controller;
+
+import com.crud_repeat_nocopy_0828.search.dto.SearchResponse;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndex;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndex searchIndex;
+
+    // 일정/댓글 키워드 검색 (관련도 순). type = schedule | comment 로 좁힐 수 있다.
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam @NotBlank String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(searchIndex.search(q, type, page, size));
+    }
+}
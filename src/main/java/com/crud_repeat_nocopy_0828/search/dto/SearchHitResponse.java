@@ -0,0 +1,23 @@
+package com.crud_repeat_nocopy_0828.search.dto;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHitResponse {
+
+    private final String type;          // schedule | comment
+    private final Long id;
+    private final Long scheduleId;      // 댓글이면 속한 일정, 일정이면 자기 자신
+    private final String title;         // 일정만 있음
+    private final String content;
+    private final float score;
+
+    public SearchHitResponse(String type, Long id, Long scheduleId, String title, String content, float score) {
+        this.type = type;
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.title = title;
+        this.content = content;
+        this.score = score;
+    }
+}
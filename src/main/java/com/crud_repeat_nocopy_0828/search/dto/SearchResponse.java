@@ -0,0 +1,21 @@
+package com.crud_repeat_nocopy_0828.search.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SearchResponse {
+
+    private final List<SearchHitResponse> hits;
+    private final long totalHits;
+    private final int page;
+    private final int size;
+
+    public SearchResponse(List<SearchHitResponse> hits, long totalHits, int page, int size) {
+        this.hits = hits;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+    }
+}
@@ -0,0 +1,261 @@
+package com.crud_repeat_nocopy_0828.search.service;
+
+import com.crud_repeat_nocopy_0828.search.dto.SearchHitResponse;
+import com.crud_repeat_nocopy_0828.search.dto.SearchResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정(title, content)과 댓글(content)의 역색인 (임베디드 Lucene)
+ * LIKE '%검색어%' 는 테이블 전체를 훑지만, 역색인은 단어 → 문서 목록을 바로 찾으므로 테이블 크기와 상관없이 빠르다.
+ *
+ * 문서 키 = "schedule:{id}" / "comment:{id}" 로 두고 updateDocument 로 덮어써서 증분 갱신한다.
+ * 색인 경로(app.search.index-path)가 비어 있으면 메모리에 두고, 기동 시 DB 에서 다시 만든다(SearchIndexBootstrap).
+ *
+ * 쓰기마다 검색기를 다시 열지 않는다. 백그라운드 스레드(ControlledRealTimeReopenThread)가 refresh-max-stale-ms 마다
+ * 한 번 열어서, 새 문서는 그 시간 안에 검색에 잡힌다. 바로 보여야 하는 쪽(색인 재구성 등)은 awaitRefresh 로 기다린다.
+ * */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    public static final String TYPE_SCHEDULE = "schedule";
+    public static final String TYPE_COMMENT = "comment";
+
+    // 깊은 페이지까지 점수를 매기지 않도록 조회 가능한 상위 결과 수를 제한한다 (지연 시간 상한)
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String SCHEDULE_ID = "scheduleId";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    // 마지막 쓰기의 시퀀스 번호 (awaitRefresh 가 기다릴 세대)
+    private final AtomicLong lastGeneration = new AtomicLong();
+
+    public SearchIndex(
+            @Value("${app.search.index-path:}") String indexPath,
+            @Value("${app.search.refresh-max-stale-ms:1000}") long maxStaleMs,
+            @Value("${app.search.refresh-min-stale-ms:25}") long minStaleMs
+    ) throws IOException {
+        Directory directory = indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.reopenThread = new ControlledRealTimeReopenThread<>(
+                writer, searcherManager, maxStaleMs / 1000.0, minStaleMs / 1000.0);
+        reopenThread.setName("search-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    public void indexSchedule(Long id, String title, String content) {
+        Document doc = baseDocument(TYPE_SCHEDULE, id, id);
+        doc.add(new TextField(TITLE, nullToEmpty(title), Field.Store.YES));
+        doc.add(new TextField(CONTENT, nullToEmpty(content), Field.Store.YES));
+        update(key(TYPE_SCHEDULE, id), doc);
+    }
+
+    public void indexComment(Long id, Long scheduleId, String content) {
+        Document doc = baseDocument(TYPE_COMMENT, id, scheduleId);
+        doc.add(new TextField(CONTENT, nullToEmpty(content), Field.Store.YES));
+        update(key(TYPE_COMMENT, id), doc);
+    }
+
+    public void delete(String type, Long id) {
+        try {
+            track(writer.deleteDocuments(new Term(KEY, key(type, id))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 벌크 삭제용 : 청크 하나의 문서를 한 번에 지운다
+    public void delete(String type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            track(writer.deleteDocuments(ids.stream().map(id -> new Term(KEY, key(type, id))).toArray(Term[]::new)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            track(writer.deleteAll());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 지금까지의 쓰기가 검색에 보일 때까지 기다린다 (재시작 주기를 기다리지 않고 바로 다시 연다)
+    public void awaitRefresh() {
+        try {
+            reopenThread.waitForGeneration(lastGeneration.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 점수(관련도) 순 검색. 제목은 본문보다 가중치를 2배 준다.
+     * type 이 있으면 해당 종류(schedule/comment)만 찾는다.
+     * */
+    public SearchResponse search(String keyword, String type, int page, int size) {
+        // page 가 크면 int 곱셈이 넘쳐 음수가 되므로 long 으로 비교한다
+        if ((long) page * size + size > MAX_RESULT_WINDOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "검색 결과는 상위 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        int from = page * size;
+        Query query = buildQuery(keyword, type);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(query, from + size);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchHitResponse> hits = new ArrayList<>();
+            ScoreDoc[] scoreDocs = top.scoreDocs;
+            for (int i = from; i < scoreDocs.length; i++) {
+                Document doc = storedFields.document(scoreDocs[i].doc);
+                hits.add(new SearchHitResponse(
+                        doc.get(TYPE),
+                        Long.valueOf(doc.get(ID)),
+                        Long.valueOf(doc.get(SCHEDULE_ID)),
+                        doc.get(TITLE),
+                        doc.get(CONTENT),
+                        scoreDocs[i].score
+                ));
+            }
+            return new SearchResponse(hits, top.totalHits.value, page, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 변경분을 주기적으로 디스크에 커밋 (메모리 색인이면 의미 없음)
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:30000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("search index commit failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Query buildQuery(String keyword, String type) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{TITLE, CONTENT}, analyzer, Map.of(TITLE, 2.0f, CONTENT, 1.0f));
+        Query text;
+        try {
+            // 사용자가 입력한 특수문자(+, -, *, ...)는 문법이 아니라 글자로 취급한다
+            text = parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 해석할 수 없습니다.");
+        }
+        if (type == null || type.isBlank()) {
+            return text;
+        }
+        return new BooleanQuery.Builder()
+                .add(text, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(TYPE, type)), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    private Document baseDocument(String type, Long id, Long scheduleId) {
+        Document doc = new Document();
+        doc.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        doc.add(new StringField(TYPE, type, Field.Store.YES));
+        doc.add(new StoredField(ID, String.valueOf(id)));
+        doc.add(new StoredField(SCHEDULE_ID, String.valueOf(scheduleId)));
+        return doc;
+    }
+
+    private void update(String key, Document doc) {
+        try {
+            track(writer.updateDocument(new Term(KEY, key), doc));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void track(long generation) {
+        lastGeneration.accumulateAndGet(generation, Math::max);
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("search index release failed", e);
+        }
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,76 @@
+package com.crud_repeat_nocopy_0828.search.service;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 검색 색인을 DB 에서 다시 만든다.
+ * 색인이 비어 있거나(메모리 색인, 처음 기동) app.search.rebuild-on-startup=true 이면 기동 직후 실행한다.
+ * 일정/댓글을 id 키셋으로 배치만큼씩 프로젝션으로 읽어서 영속성 컨텍스트를 쓰지 않는다.
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexBootstrap {
+
+    private final SearchIndex searchIndex;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${app.search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Value("${app.search.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (rebuildOnStartup || searchIndex.size() == 0) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        searchIndex.deleteAll();
+
+        long schedules = 0;
+        long lastId = 0L;
+        List<ScheduleResponse> scheduleBatch;
+        while (!(scheduleBatch = scheduleRepository.findResponsesAfter(lastId, Limit.of(batchSize))).isEmpty()) {
+            for (ScheduleResponse s : scheduleBatch) {
+                searchIndex.indexSchedule(s.getId(), s.getTitle(), s.getContent());
+            }
+            schedules += scheduleBatch.size();
+            lastId = scheduleBatch.get(scheduleBatch.size() - 1).getId();
+        }
+
+        long comments = 0;
+        lastId = 0L;
+        List<CommentResponse> commentBatch;
+        while (!(commentBatch = commentRepository.findResponsesAfter(lastId, Limit.of(batchSize))).isEmpty()) {
+            for (CommentResponse c : commentBatch) {
+                searchIndex.indexComment(c.getId(), c.getScheduleId(), c.getContent());
+            }
+            comments += commentBatch.size();
+            lastId = commentBatch.get(commentBatch.size() - 1).getId();
+        }
+
+        // 문서마다가 아니라 재구성이 끝난 뒤 한 번 검색기를 다시 연다
+        searchIndex.awaitRefresh();
+        searchIndex.commit();
+        log.info("search index rebuilt: {} schedules, {} comments in {} ms",
+                schedules, comments, System.currentTimeMillis() - started);
+    }
+}
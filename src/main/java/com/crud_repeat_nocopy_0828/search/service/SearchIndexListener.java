@@ -0,0 +1,68 @@
+package com.crud_repeat_nocopy_0828.search.service;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.common.entity.BaseEntity;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Schedule / Comment 의 저장·수정·삭제를 검색 색인에 반영하는 JPA 엔티티 리스너
+ * 엔티티에 @EntityListeners(SearchIndexListener.class) 로 붙인다. (스프링 빈으로 생성되어 주입이 된다)
+ * 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 후에 반영한다.
+ * 벌크 JPQL/네이티브 쿼리는 리스너를 타지 않으므로 그쪽은 호출하는 곳에서 색인을 직접 정리해야 한다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndex searchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        // 삭제 표시(soft delete)도 UPDATE 라서 여기로 온다
+        if (entity instanceof BaseEntity base && base.isDeleted()) {
+            onRemove(entity);
+        } else if (entity instanceof Schedule schedule) {
+            Long id = schedule.getId();
+            String title = schedule.getTitle();
+            String content = schedule.getContent();
+            afterCommit(() -> searchIndex.indexSchedule(id, title, content));
+        } else if (entity instanceof Comment comment) {
+            Long id = comment.getId();
+            Long scheduleId = comment.getSchedule().getId();
+            String content = comment.getContent();
+            afterCommit(() -> searchIndex.indexComment(id, scheduleId, content));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Schedule schedule) {
+            Long id = schedule.getId();
+            afterCommit(() -> searchIndex.delete(SearchIndex.TYPE_SCHEDULE, id));
+        } else if (entity instanceof Comment comment) {
+            Long id = comment.getId();
+            afterCommit(() -> searchIndex.delete(SearchIndex.TYPE_COMMENT, id));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
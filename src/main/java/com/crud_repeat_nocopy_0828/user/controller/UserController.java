@@ -0,0 +1,93 @@
+package com.crud_repeat_nocopy_0828.user.controller;
+
+import com.crud_repeat_nocopy_0828.common.job.dto.DeletionJobResponse;
+import com.crud_repeat_nocopy_0828.common.ratelimit.RateLimited;
+import com.crud_repeat_nocopy_0828.common.session.LoginSessionManager;
+import com.crud_repeat_nocopy_0828.common.session.LoginUser;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.dto.UserSignupRequest;
+import com.crud_repeat_nocopy_0828.user.dto.UserUpdateRequest;
+import com.crud_repeat_nocopy_0828.user.service.UserDeletionService;
+import com.crud_repeat_nocopy_0828.user.service.UserExportService;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+    private final UserDeletionService userDeletionService;
+    private final UserExportService userExportService;
+    private final LoginSessionManager loginSessionManager;
+
+    // 회원가입. 비로그인 요청이라 IP 별로 제한한다
+    @PostMapping("/signup")
+    @RateLimited("signup")
+    public ResponseEntity<UserResponse> signup(@Valid @RequestBody UserSignupRequest request) {
+        UserResponse created = userService.signup(request);
+        return ResponseEntity.created(URI.create("/users/" + created.getId())).body(created);
+    }
+
+    // 모든 사용자 조회
+    @GetMapping
+    public ResponseEntity<List<UserResponse>> findAll() {
+        return ResponseEntity.ok(userService.findAll());
+    }
+
+    // 내 정보 수정
+    @PutMapping("/me")
+    public ResponseEntity<UserResponse> updateMe(
+            @LoginUser Long loginUserId,
+            @Valid @RequestBody UserUpdateRequest request
+    ) {
+        return ResponseEntity.ok(userService.updateMe(loginUserId, request));
+    }
+
+    // 회원 탈퇴 (내 일정, 댓글 포함). 양이 많으면 202 + 삭제 작업 id 를 돌려주고 뒤에서 지운다
+    @DeleteMapping("/me")
+    public ResponseEntity<DeletionJobResponse> deleteMe(
+            @LoginUser Long loginUserId,
+            HttpServletRequest httpRequest
+    ) {
+        ResponseEntity<DeletionJobResponse> response = userDeletionService.deleteMe(loginUserId)
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/deletion-jobs/" + job.getId()))
+                        .body(DeletionJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+        loginSessionManager.endAll(loginUserId, httpRequest);
+        return response;
+    }
+
+    // 내 데이터 내보내기 (NDJSON, 한 줄에 사용자/일정/댓글 하나). 전체를 메모리에 올리지 않고 읽는 대로 흘려보낸다
+    @GetMapping("/me/export")
+    public void exportMe(@LoginUser Long loginUserId, HttpServletResponse response) {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"export-" + loginUserId + ".ndjson\"");
+        try {
+            userExportService.export(loginUserId, response.getOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 단일 사용자 조회
+    @GetMapping("/{id}")
+    public ResponseEntity<UserResponse> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(userService.findById(id));
+    }
+}
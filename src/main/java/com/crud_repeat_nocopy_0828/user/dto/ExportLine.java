@@ -0,0 +1,8 @@
+package com.crud_repeat_nocopy_0828.user.dto;
+
+/**
+ * 내보내기(NDJSON) 한 줄
+ * {"type":"user|schedule|comment","data":{...}}
+ * */
+public record ExportLine(String type, Object data) {
+}
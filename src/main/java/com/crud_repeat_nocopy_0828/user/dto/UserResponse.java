@@ -0,0 +1,33 @@
+package com.crud_repeat_nocopy_0828.user.dto;
+
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 사용자 조회 응답
+ * JPQL 생성자 표현식(select new ...)으로 필요한 컬럼만 바로 받는 읽기 전용 모델이다.
+ * 엔티티가 아니라서 영속성 컨텍스트에 올라가지 않는다(스냅샷/프록시 없음).
+ * */
+@Getter
+public class UserResponse {
+
+    private final Long id;
+    private final String userName;
+    private final String email;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    public UserResponse(Long id, String userName, String email, Instant createdAt, Instant updatedAt) {
+        this.id = id;
+        this.userName = userName;
+        this.email = email;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getUserName(), user.getEmail(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
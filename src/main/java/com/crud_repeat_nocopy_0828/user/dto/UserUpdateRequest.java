@@ -0,0 +1,26 @@
+package com.crud_repeat_nocopy_0828.user.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdateRequest {
+
+    @NotBlank
+    @Size(max = 50)     // users.user_name 길이
+    private String userName;
+
+    @NotBlank
+    @Email
+    @Size(max = 60)     // users.email 길이
+    private String email;
+
+    @NotBlank
+    private String password;
+}
@@ -6,6 +6,9 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 // 롬복(Lombok) 애너테이션
 // getter와 기본 생성자를 자동 생성해 줍니다.
 // 컴파일 시점(Annotation Processing 단계)에 getId(), getUserName() 같은 메서드와 기본 생성자를 자동 생성합니다.
@@ -63,7 +66,13 @@ import lombok.NoArgsConstructor;
  * 팩토리/정적 생성자, 빌더 등을 통해 의미 있는 생성 경로만 열어 두고, 무인자 생성자는 JPA를 위한 기술적 구멍만 남기는 전략이 깔끔합니다.
  * */
 
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = @Index(name = "idx_users_deleted_at_id", columnList = "deleted_at, id")
+)
+@SQLRestriction("deleted_at is null")
+// 탈퇴(삭제 표시)한 회원은 모든 조회에서 빠진다. 실제 행은 TombstonePurger 가 일정/댓글을 정리한 뒤 지운다.
+// 보관 기간 동안은 user_name/email 유니크 제약이 남아 있어서 같은 이름으로 바로 재가입할 수는 없다.
 /**
  * @Table(name="users")
  * 1) 왜 쓰나?
@@ -79,6 +88,10 @@ import lombok.NoArgsConstructor;
  * 멀티 모듈/멀티 서비스에서 스키마 충돌 방지에 유리합니다.
  * */
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+// 2차 캐시(Caffeine, 앱 프로세스 내부) 대상. 크기/TTL 은 resources/application.conf 의 users 영역에서 정한다.
+// READ_WRITE : 엔티티 수정/삭제가 커밋되면 하이버네이트가 캐시 항목도 같이 갱신/제거한다.
 public class User extends BaseEntity {
     // 엔티티 클래스 선언!
     // BaseEntity를 "상속(extends)"해서 공통 필드를 재사용합니다.
@@ -150,9 +163,11 @@ public class User extends BaseEntity {
     // @Id 가 필드에 있으므로 필드 접근(Field Access) 전략을 사용한다.
     // 리플렉션으로 필드를 직접 읽고 쓴다
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    // PK 생성 전략. 데이터베이스의 AUTO_INCREMENT(IDENTITY)를 사용.
-    // 특징: ID를 받기 위해 INSERT가 즉시 나가거나(벤더/버전에 따라) flush 타이밍이 앞당겨질 수 있어 배치/성능 고려가 필요.
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
+    // PK 생성 전략. id_sequences 테이블에서 번호를 묶음으로 받아 쓰는 TABLE(pooled) 전략을 사용.
+    // IDENTITY 는 ID를 받기 위해 INSERT가 즉시 나가서 JDBC 배치가 꺼지므로 TABLE 로 바꿨다.
 
     /// @GeneratedValue의 전략은?
     //IDENTITY: DB AUTO_INCREMENT. 간편하지만 INSERT 타이밍이 앞당겨짐.
@@ -175,6 +190,7 @@ public class User extends BaseEntity {
 
 
     private String password;
+    // BCrypt 해시 ($2a$10$..., 60자). 해시 도입 전 평문 행은 첫 로그인 때 해시로 바뀐다 (LoginService)
 
     /**
      * @Column 제약들 (nullable, length, unique 등)
@@ -198,4 +214,17 @@ public class User extends BaseEntity {
         this.email = email;
         this.password = password;
     }
+
+    // 내 정보 수정 (PUT /users/me). 변경 감지로 UPDATE 되고, 커밋 시 2차 캐시 항목도 갱신된다.
+    // password 는 PasswordHasher 로 만든 해시를 받는다.
+    public void update(String userName, String email, String password) {
+        this.userName = userName;
+        this.email = email;
+        this.password = password;
+    }
+
+    // 로그인 때 재해시 (비용 설정 변경, 평문 → 해시)
+    public void changePassword(String passwordHash) {
+        this.password = passwordHash;
+    }
 }
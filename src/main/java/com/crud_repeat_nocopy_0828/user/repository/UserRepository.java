@@ -0,0 +1,36 @@
+package com.crud_repeat_nocopy_0828.user.repository;
+
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 조회용 프로젝션 : password 등 응답에 없는 컬럼은 SELECT 하지 않는다
+    @Query("select new com.crud_repeat_nocopy_0828.user.dto.UserResponse(u.id, u.userName, u.email, u.createdAt, u.updatedAt) "
+            + "from User u order by u.id")
+    List<UserResponse> findAllResponses();
+
+    // 로그인 : email 유니크 인덱스로 한 건 (탈퇴 회원은 @SQLRestriction 으로 빠진다)
+    Optional<User> findByEmail(String email);
+
+    // TombstonePurger 전용 : 보관 기간이 지난 탈퇴 회원 (idx_users_deleted_at_id 범위 스캔)
+    @Query(value = "select id from users where deleted_at < :cutoff order by deleted_at, id limit :limit",
+            nativeQuery = true)
+    List<Long> findTombstonedIds(Instant cutoff, int limit);
+
+    // users 2차 캐시 항목 제거는 호출하는 쪽이 커밋 후에 한다. 일정/댓글은 먼저 지워져 있어야 한다(FK)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "delete from users where id = :id", nativeQuery = true)
+    int purgeById(Long id);
+}
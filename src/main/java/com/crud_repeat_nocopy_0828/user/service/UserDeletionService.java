@@ -0,0 +1,83 @@
+package com.crud_repeat_nocopy_0828.user.service;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.comment.service.CommentBulkDeleter;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJobRunner;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleDeletionService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 탈퇴 (내가 쓴 댓글, 내 일정과 거기 달린 댓글, 회원 행)
+ * 순서 : 내 댓글 → 내 일정(+ 거기 달린 댓글) → 회원
+ * 각 단계는 id 청크 단위 삭제 표시(UPDATE)이고 청크마다 트랜잭션이 따로라서, 큰 계정도 긴 잠금 없이 처리한다.
+ * 실제 행 삭제는 TombstonePurger 가 FK 순서(댓글 → 일정 → 회원)로 한다.
+ * */
+@Service
+public class UserDeletionService {
+
+    private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final CommentBulkDeleter commentBulkDeleter;
+    private final ScheduleDeletionService scheduleDeletionService;
+    private final DeletionJobRunner deletionJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final int scheduleChunkSize;
+
+    public UserDeletionService(
+            UserRepository userRepository,
+            ScheduleRepository scheduleRepository,
+            CommentRepository commentRepository,
+            CommentBulkDeleter commentBulkDeleter,
+            ScheduleDeletionService scheduleDeletionService,
+            DeletionJobRunner deletionJobRunner,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.deletion.schedule-chunk-size:100}") int scheduleChunkSize
+    ) {
+        this.userRepository = userRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.commentBulkDeleter = commentBulkDeleter;
+        this.scheduleDeletionService = scheduleDeletionService;
+        this.deletionJobRunner = deletionJobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduleChunkSize = scheduleChunkSize;
+    }
+
+    // 비어 있으면 요청 안에서 삭제가 끝난 것, 있으면 비동기로 진행 중인 작업
+    public Optional<DeletionJob> deleteMe(Long loginUserId) {
+        if (!userRepository.existsById(loginUserId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+        long comments = commentRepository.countDeletableByUserId(loginUserId);
+        return deletionJobRunner.run("user:" + loginUserId, comments, job -> deleteAll(loginUserId, job));
+    }
+
+    private void deleteAll(Long userId, DeletionJob job) {
+        commentBulkDeleter.deleteByUser(userId, job);
+
+        while (true) {
+            List<Long> scheduleIds = scheduleRepository.findIdsByUserId(userId, Limit.of(scheduleChunkSize));
+            if (scheduleIds.isEmpty()) {
+                break;
+            }
+            scheduleDeletionService.deleteSchedules(scheduleIds, job);
+        }
+
+        // 회원 행은 한 건이라 엔티티로 표시한다 (더티 체킹, users 2차 캐시 항목도 같이 갱신됨)
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId).ifPresent(User::softDelete));
+    }
+}
@@ -0,0 +1,143 @@
+package com.crud_repeat_nocopy_0828.user.service;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.user.dto.ExportLine;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * 내 데이터 내보내기 (NDJSON 스트리밍)
+ * 사용자 한 줄 → 내 일정들 → 내 일정에 달린 댓글들 순서로 한 줄씩 바로 응답에 쓴다.
+ *
+ * - 결과를 List 로 모으지 않는다. 쿼리는 getResultStream(전진 전용 커서)으로 한 행씩 읽고 바로 쓴다.
+ *   MySQL 은 fetch-size 를 Integer.MIN_VALUE 로 주면 결과를 한꺼번에 받아 두지 않고 소켓에서 한 행씩 읽는다.
+ * - 프로젝션(DTO)으로 읽어서 영속성 컨텍스트에 엔티티가 쌓이지 않는다 (detach/clear 할 대상이 없음).
+ * - 응답 OutputStream 이 소켓 버퍼가 찰 때 쓰기에서 멈추므로, 클라이언트가 느리면 DB 읽기도 같이 느려진다 (메모리에 쌓이지 않음).
+ * - 내보내는 동안 커넥션 하나를 잡고 있으므로 동시 내보내기 수를 묶는다 (넘치면 503).
+ * */
+@Service
+public class UserExportService {
+
+    private static final String SCHEDULES = "select new com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse("
+            + "s.id, s.user.id, s.userName, s.title, s.content, s.commentCount, s.createdAt, s.updatedAt, s.version) "
+            + "from Schedule s where s.user.id = :userId order by s.id";
+
+    // 일정 순 → 일정 안에서 댓글 id 순 (idx_schedules_user_id_id → idx_comments_schedule_id_deleted_at_id 를 차례로 탄다)
+    private static final String COMMENTS = CommentRepository.RESPONSE
+            + "join c.schedule s where s.user.id = :userId order by s.id, c.id";
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public UserExportService(
+            UserRepository userRepository,
+            EntityManager em,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${app.export.fetch-size:1000}") int fetchSize,
+            @Value("${app.export.flush-every:500}") int flushEvery
+    ) {
+        this.userRepository = userRepository;
+        this.em = em;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    public void export(Long userId, OutputStream out) {
+        if (!permits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(userId, out));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void write(Long userId, OutputStream out) {
+        UserResponse user = userRepository.findById(userId)
+                .filter(u -> !u.isDeleted())
+                .map(UserResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        LineWriter lines = new LineWriter(new BufferedOutputStream(out, BUFFER_BYTES));
+        lines.write(new ExportLine("user", user));
+        try (Stream<ScheduleResponse> schedules = stream(SCHEDULES, ScheduleResponse.class, userId)) {
+            schedules.forEach(schedule -> lines.write(new ExportLine("schedule", schedule)));
+        }
+        // MySQL 스트리밍 결과는 끝까지 읽어야 같은 커넥션으로 다음 쿼리를 보낼 수 있어서 일정 → 댓글 순으로 따로 읽는다
+        try (Stream<CommentResponse> comments = stream(COMMENTS, CommentResponse.class, userId)) {
+            comments.forEach(comment -> lines.write(new ExportLine("comment", comment)));
+        }
+        lines.flush();
+    }
+
+    private <T> Stream<T> stream(String jpql, Class<T> type, Long userId) {
+        return em.createQuery(jpql, type)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    // 한 줄 쓰고 개행. flushEvery 줄마다 밀어내서 클라이언트가 진행 상황을 바로 받는다
+    private final class LineWriter {
+
+        private final OutputStream out;
+        private long count;
+
+        private LineWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void write(ExportLine line) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+                if (++count % flushEvery == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);   // 클라이언트가 끊으면 여기서 끝나고 트랜잭션/커넥션이 정리된다
+            }
+        }
+
+        void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
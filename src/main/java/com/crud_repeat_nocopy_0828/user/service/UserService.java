@@ -0,0 +1,80 @@
+package com.crud_repeat_nocopy_0828.user.service;
+
+import com.crud_repeat_nocopy_0828.auth.service.PasswordHasher;
+import com.crud_repeat_nocopy_0828.schedule.service.AuthorNamePropagator;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.dto.UserSignupRequest;
+import com.crud_repeat_nocopy_0828.user.dto.UserUpdateRequest;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@Service
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final AuthorNamePropagator authorNamePropagator;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher,
+                       AuthorNamePropagator authorNamePropagator, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.authorNamePropagator = authorNamePropagator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 회원가입. updateMe 와 같이 비밀번호 해시는 트랜잭션 밖에서 먼저 만든다
+    // 이름/이메일 중복은 유니크 제약으로 판단한다 (탈퇴 후 보관 기간 중인 행도 제약에는 걸린다)
+    public UserResponse signup(UserSignupRequest request) {
+        String passwordHash = passwordHasher.hash(request.getPassword());
+        try {
+            return transactionTemplate.execute(status -> UserResponse.from(userRepository.saveAndFlush(
+                    new User(request.getUserName(), request.getEmail(), passwordHash))));
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용 중인 이름 또는 이메일입니다.");
+        }
+    }
+
+    // readOnly : 하이버네이트 flush 모드가 MANUAL 이 되어 더티 체킹/스냅샷 비용이 없다
+    @Transactional(readOnly = true)
+    public List<UserResponse> findAll() {
+        return userRepository.findAllResponses();
+    }
+
+    // 단건 조회는 id 로 엔티티를 읽어서 2차 캐시를 탄다 (캐시 적중 시 DB 조회 없음)
+    @Transactional(readOnly = true)
+    public UserResponse findById(Long id) {
+        return UserResponse.from(findUser(id));
+    }
+
+    // 내 정보 수정. READ_WRITE 캐시 전략이라 커밋되면 캐시 항목도 새 값으로 바뀐다 (수정 직후 예전 프로필이 보이지 않음)
+    // 비밀번호 해시는 트랜잭션 밖에서 먼저 만든다 (해시 계산 동안 DB 커넥션을 잡고 있지 않게)
+    // 이름이 바뀌면 내 일정들의 작성자 이름(Schedule.userName)은 커밋 후 백그라운드에서 청크 UPDATE 로 따라 바뀐다
+    public UserResponse updateMe(Long loginUserId, UserUpdateRequest request) {
+        String passwordHash = passwordHasher.hash(request.getPassword());
+        return transactionTemplate.execute(status -> {
+            User user = findUser(loginUserId);
+            if (!user.getUserName().equals(request.getUserName())) {
+                authorNamePropagator.propagateAfterCommit(loginUserId);
+            }
+            user.update(request.getUserName(), request.getEmail(), passwordHash);
+            return UserResponse.from(user);
+        });
+    }
+
+    private User findUser(Long id) {
+        return userRepository.findById(id)
+                .filter(user -> !user.isDeleted())     // 2차 캐시 적중은 @SQLRestriction 을 거치지 않는다
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,31 @@
+-- 처음 배포된 스키마 (ReadMe_SQL.md 그대로). ddl-auto: update 로 이미 만들어진 DB 는 이 버전으로 baseline 되고 V2 부터 실행된다
+CREATE TABLE users (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_name  VARCHAR(255) NOT NULL UNIQUE,
+    email      VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    created_at DATE,
+    updated_at DATE
+);
+
+CREATE TABLE schedules (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    user_name  VARCHAR(255) NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    created_at DATE,
+    updated_at DATE,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content     VARCHAR(255) NOT NULL,
+    schedule_id BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    created_at  DATE,
+    updated_at  DATE,
+    FOREIGN KEY (schedule_id) REFERENCES schedules (id),
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
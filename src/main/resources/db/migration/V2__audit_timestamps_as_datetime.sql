@@ -0,0 +1,11 @@
+-- 작성/수정 시각을 날짜(DATE)에서 UTC 시각(마이크로초)으로. 기존 값은 그날 00:00:00 이 된다
+-- 댓글 본문 길이를 엔티티(500)에 맞춘다
+ALTER TABLE users MODIFY COLUMN created_at DATETIME(6);
+ALTER TABLE users MODIFY COLUMN updated_at DATETIME(6);
+
+ALTER TABLE schedules MODIFY COLUMN created_at DATETIME(6);
+ALTER TABLE schedules MODIFY COLUMN updated_at DATETIME(6);
+
+ALTER TABLE comments MODIFY COLUMN created_at DATETIME(6);
+ALTER TABLE comments MODIFY COLUMN updated_at DATETIME(6);
+ALTER TABLE comments MODIFY COLUMN content VARCHAR(500) NOT NULL;
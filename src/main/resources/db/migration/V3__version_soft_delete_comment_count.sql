@@ -0,0 +1,14 @@
+-- 낙관적 잠금 버전, 삭제 표시(tombstone), 일정별 댓글 수(비정규화)
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN deleted_at DATETIME(6);
+
+ALTER TABLE schedules ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE schedules ADD COLUMN deleted_at DATETIME(6);
+ALTER TABLE schedules ADD COLUMN comment_count BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE comments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE comments ADD COLUMN deleted_at DATETIME(6);
+
+-- 기존 댓글 수 채우기 (이 시점에는 삭제 표시된 댓글이 없다)
+UPDATE schedules s
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.schedule_id = s.id);
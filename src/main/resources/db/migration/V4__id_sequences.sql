@@ -0,0 +1,13 @@
+-- PK 는 TABLE 전략(pooled) : 엔티티마다 한 행, 번호를 allocationSize(users/schedules 50, comments 100)만큼 묶어서 받아 간다.
+-- pooled 는 읽은 값 v 를 구간의 끝으로 보고 (v - allocationSize + 1) 부터 나눠 주므로,
+-- 기존 행과 겹치지 않게 MAX(id) + allocationSize 로 채운다 → 첫 번호가 MAX(id) + 1 (빈 테이블이면 1).
+-- 기존 id 컬럼의 AUTO_INCREMENT 는 그대로 둔다 (하이버네이트가 항상 id 를 넣어서 쓰이지 않는다)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'schedules', COALESCE(MAX(id), 0) + 50 FROM schedules;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 100 FROM comments;
@@ -0,0 +1,16 @@
+-- 엔티티 @Table(indexes) 와 같은 인덱스
+-- 삭제 표시 정리(deleted_at, id), 변경분 동기화(updated_at, id), 활동 피드 키셋(created_at, id), 사용자별 목록/이름 전파
+CREATE INDEX idx_users_deleted_at_id ON users (deleted_at, id);
+
+CREATE INDEX idx_schedules_updated_at_id ON schedules (updated_at, id);
+CREATE INDEX idx_schedules_deleted_at_id ON schedules (deleted_at, id);
+CREATE INDEX idx_schedules_user_id_id ON schedules (user_id, id);
+CREATE INDEX idx_schedules_created_at_id ON schedules (created_at, id);
+CREATE INDEX idx_schedules_user_id_created_at_id ON schedules (user_id, created_at, id);
+
+-- 일정별 댓글 목록(키셋)
+CREATE INDEX idx_comments_schedule_id_deleted_at_id ON comments (schedule_id, deleted_at, id);
+CREATE INDEX idx_comments_updated_at_id ON comments (updated_at, id);
+CREATE INDEX idx_comments_deleted_at_id ON comments (deleted_at, id);
+CREATE INDEX idx_comments_created_at_id ON comments (created_at, id);
+CREATE INDEX idx_comments_user_id_created_at_id ON comments (user_id, created_at, id);
@@ -0,0 +1,102 @@
+package com.crud_repeat_nocopy_0828;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.support.QueryCounter;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 엔드포인트별 SQL 실행 횟수 검증
+ * 행 수(댓글 20개, 작성자 20명)와 상관없이 쿼리 수가 1 이하로 고정되어야 한다.
+ * 누군가 N + 1 로 되돌리면 이 테스트가 깨진다.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCountTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private QueryCounter queryCounter;
+    private Long scheduleId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        String suffix = String.valueOf(System.nanoTime());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            users.add(new User("qc" + i + "-" + suffix, "qc" + i + "-" + suffix + "@test.com", "pw"));
+        }
+        userRepository.saveAll(users);
+
+        Schedule schedule = scheduleRepository.save(
+                new Schedule(users.get(0), users.get(0).getUserName(), "title", "content"));
+        scheduleId = schedule.getId();
+        userId = users.get(0).getId();
+
+        List<Comment> comments = new ArrayList<>();
+        for (User user : users) {
+            comments.add(new Comment(schedule, user, "comment"));
+        }
+        commentRepository.saveAll(comments);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/users",
+            "/users/{userId}",
+            "/schedules",
+            "/schedules/{scheduleId}",
+            "/schedules/changes",
+            "/schedules/{scheduleId}/comments",
+            "/schedules/{scheduleId}/comments/feed",
+            "/users/{userId}/comments",
+            "/comments/changes"
+    })
+    void readEndpointsRunASingleQuery(String template) throws Exception {
+        String uri = template
+                .replace("{userId}", String.valueOf(userId))
+                .replace("{scheduleId}", String.valueOf(scheduleId));
+
+        queryCounter.reset();
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        // 단건 조회는 2차 캐시에 적중하면 0 이다
+        assertThat(queryCounter.count()).as(uri).isLessThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.crud_repeat_nocopy_0828;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션(db/migration)만으로 만든 스키마 검증
+ * 다른 테스트는 엔티티로 스키마를 만들기 때문에(create-drop), 엔티티에 컬럼/인덱스를 추가하고 마이그레이션을 빠뜨리면 여기서 깨진다.
+ * 컨텍스트는 운영과 같이 validate 로 뜬다 (마이그레이션 결과가 엔티티와 다르면 기동 실패).
+ * */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void migrationsCreateEveryIndexDeclaredOnTheEntities() {
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from flyway_schema_history where success = true", Integer.class))
+                .isPositive();
+
+        for (Class<?> entity : List.of(User.class, Schedule.class, Comment.class)) {
+            Table table = entity.getAnnotation(Table.class);
+            List<String> indexes = jdbcTemplate.queryForList(
+                    "select index_name from information_schema.indexes where table_name = ?",
+                    String.class, table.name());
+            for (Index index : table.indexes()) {
+                assertThat(indexes).as(table.name()).contains(index.name());
+            }
+        }
+    }
+
+    @Test
+    void entitiesRoundTripOnTheMigratedSchema() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("mig-" + suffix, suffix + "@mig.test", "pw"));
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+        Comment comment = commentRepository.save(new Comment(schedule, user, "hi"));
+
+        assertThat(userRepository.findById(user.getId())).isPresent();
+        assertThat(scheduleRepository.findById(schedule.getId())).isPresent();
+        assertThat(commentRepository.findById(comment.getId())).isPresent();
+    }
+
+    // ddl-auto: update 시절 DB(V1 모양, 데이터 있음)를 V1 로 baseline 한 뒤 나머지를 올리는 경로
+    @Test
+    void upgradesALegacyDatabaseWithoutLosingRowsOrReusingIds() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        legacy.update("insert into users (id, user_name, email, password, created_at, updated_at) "
+                + "values (70, 'old', 'old@test', 'pw', '2025-08-28', '2025-08-28')");
+        legacy.update("insert into schedules (id, user_id, user_name, title, content, created_at, updated_at) "
+                + "values (120, 70, 'old', 't', 'c', '2025-08-28', '2025-08-28')");
+        legacy.update("insert into comments (id, content, schedule_id, user_id, created_at, updated_at) "
+                + "values (300, 'a', 120, 70, '2025-08-28', '2025-08-28')");
+        legacy.update("insert into comments (id, content, schedule_id, user_id, created_at, updated_at) "
+                + "values (301, 'b', 120, 70, '2025-08-28', '2025-08-28')");
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(legacy.queryForObject("select comment_count from schedules where id = 120", Long.class))
+                .isEqualTo(2L);
+        assertThat(legacy.queryForObject("select version from comments where id = 300", Long.class))
+                .isZero();
+        // pooled 는 (next_val - allocationSize + 1) 부터 나눠 준다 → 기존 최대 id 바로 다음부터
+        assertThat(legacy.queryForObject(
+                "select next_val from id_sequences where sequence_name = 'users'", Long.class))
+                .isEqualTo(70L + 50);
+        assertThat(legacy.queryForObject(
+                "select next_val from id_sequences where sequence_name = 'schedules'", Long.class))
+                .isEqualTo(120L + 50);
+        assertThat(legacy.queryForObject(
+                "select next_val from id_sequences where sequence_name = 'comments'", Long.class))
+                .isEqualTo(301L + 100);
+    }
+}
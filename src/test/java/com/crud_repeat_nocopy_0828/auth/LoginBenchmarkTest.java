@@ -0,0 +1,112 @@
+package com.crud_repeat_nocopy_0828.auth;
+
+import com.crud_repeat_nocopy_0828.auth.dto.LoginRequest;
+import com.crud_repeat_nocopy_0828.auth.service.LoginService;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 다른 API 처리량 (mixed load)
+ * 1) 읽기 스레드만 돌려서 일정 조회 처리량 기준값을 잰다
+ * 2) 같은 읽기 부하에 로그인 스레드 16개를 더해서 다시 잰다
+ * 해시는 작은 전용 풀에서만 돌고 넘치면 503 으로 바로 끝나므로, 읽기 처리량이 크게 떨어지지 않아야 한다.
+ * 실행: ./gradlew benchmark
+ * */
+@Tag("benchmark")
+@SpringBootTest
+class LoginBenchmarkTest {
+
+    private static final int READERS = 4;
+    private static final int LOGIN_THREADS = 16;
+    private static final long DURATION_MS = 3_000;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void loginBurstDoesNotStarveReads() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("lb-" + suffix, suffix + "@lb.test", "pw"));
+        Long scheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c")).getId();
+        loginService.login(new LoginRequest(user.getEmail(), "pw"));     // 평문 → 해시로 바꿔 둔다
+
+        double baseline = run(scheduleId, user.getEmail(), 0, new AtomicLong(), new AtomicLong());
+
+        AtomicLong logins = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        double mixed = run(scheduleId, user.getEmail(), LOGIN_THREADS, logins, rejected);
+
+        System.out.printf("[login-mixed] reads only        : %.0f reads/sec%n", baseline);
+        System.out.printf("[login-mixed] reads + %d logins : %.0f reads/sec, %.0f logins/sec, %d rejected (503)%n",
+                LOGIN_THREADS, mixed, logins.get() * 1000.0 / DURATION_MS, rejected.get());
+        assertThat(logins.get()).isPositive();
+        assertThat(mixed).isGreaterThan(baseline * 0.3);
+    }
+
+    // 읽기 처리량(reads/sec)을 돌려준다
+    private double run(Long scheduleId, String email, int loginThreads, AtomicLong logins, AtomicLong rejected)
+            throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + loginThreads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < READERS; i++) {
+            executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    scheduleService.findById(scheduleId);
+                    reads.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        for (int i = 0; i < loginThreads; i++) {
+            executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    try {
+                        loginService.login(new LoginRequest(email, "pw"));
+                        logins.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        Thread.sleep(DURATION_MS);
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        return reads.get() * 1000.0 / DURATION_MS;
+    }
+}
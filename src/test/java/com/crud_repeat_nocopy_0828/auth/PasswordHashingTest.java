@@ -0,0 +1,164 @@
+package com.crud_repeat_nocopy_0828.auth;
+
+import com.crud_repeat_nocopy_0828.auth.dto.LoginRequest;
+import com.crud_repeat_nocopy_0828.auth.service.LoginService;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.dto.UserSignupRequest;
+import com.crud_repeat_nocopy_0828.user.dto.UserUpdateRequest;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 해시 풀을 1 스레드 + 대기열 1 로 줄여서 포화 시 바로 거절되는지도 본다
+@SpringBootTest(properties = {
+        "app.password.bcrypt-cost=6",
+        "app.password.threads=1",
+        "app.password.queue-capacity=1"
+})
+class PasswordHashingTest {
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private AsyncTaskExecutor passwordHashExecutor;
+
+    @Test
+    void plaintextPasswordIsHashedOnFirstLogin() {
+        User user = newUser("pw");
+
+        assertThat(loginService.login(new LoginRequest(user.getEmail(), "pw"))).isEqualTo(user.getId());
+
+        String stored = storedPassword(user);
+        assertThat(stored).startsWith("$2a$06$");
+        assertThat(loginService.login(new LoginRequest(user.getEmail(), "pw"))).isEqualTo(user.getId());
+        assertThatThrownBy(() -> loginService.login(new LoginRequest(user.getEmail(), "wrong")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+
+    @Test
+    void lowerCostHashIsUpgradedOnLogin() {
+        User user = newUser(new BCryptPasswordEncoder(4).encode("pw"));
+
+        loginService.login(new LoginRequest(user.getEmail(), "pw"));
+
+        assertThat(storedPassword(user)).startsWith("$2a$06$");
+    }
+
+    @Test
+    void profileUpdateStoresHash() {
+        User user = newUser("pw");
+
+        userService.updateMe(user.getId(), new UserUpdateRequest(user.getUserName(), user.getEmail(), "new-pw"));
+
+        assertThat(storedPassword(user)).startsWith("$2a$06$");
+        assertThat(loginService.login(new LoginRequest(user.getEmail(), "new-pw"))).isEqualTo(user.getId());
+    }
+
+    @Test
+    void signupStoresHashAndRejectsDuplicates() {
+        String suffix = String.valueOf(System.nanoTime());
+        UserSignupRequest request = new UserSignupRequest("su-" + suffix, suffix + "@su.test", "pw");
+
+        UserResponse created = userService.signup(request);
+
+        assertThat(userRepository.findByEmail(request.getEmail()).orElseThrow().getPassword()).startsWith("$2a$06$");
+        assertThat(loginService.login(new LoginRequest(request.getEmail(), "pw"))).isEqualTo(created.getId());
+        assertThatThrownBy(() -> userService.signup(request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    // 평문 비교는 풀을 쓰지 않으므로 풀이 가득 차 있으면 재해시만 거절된다 → 로그인은 그대로 성공
+    @Test
+    void rejectedRehashDoesNotFailALogin() throws Exception {
+        User user = newUser("pw");
+        CountDownLatch release = new CountDownLatch(1);
+        // 스레드 1 + 대기열 1 을 채운다
+        List<Future<?>> blockers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            blockers.add(passwordHashExecutor.submit(() -> {
+                release.await();
+                return null;
+            }));
+        }
+        try {
+            assertThat(loginService.login(new LoginRequest(user.getEmail(), "pw"))).isEqualTo(user.getId());
+            assertThat(storedPassword(user)).isEqualTo("pw");
+        } finally {
+            release.countDown();
+            for (Future<?> blocker : blockers) {
+                blocker.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        loginService.login(new LoginRequest(user.getEmail(), "pw"));
+        assertThat(storedPassword(user)).startsWith("$2a$06$");
+    }
+
+    @Test
+    void saturatedHashPoolRejectsFast() throws Exception {
+        User user = newUser(new BCryptPasswordEncoder(6).encode("pw"));
+        int threads = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatus>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    loginService.login(new LoginRequest(user.getEmail(), "pw"));
+                    return HttpStatus.CREATED;
+                } catch (ResponseStatusException e) {
+                    return HttpStatus.valueOf(e.getStatusCode().value());
+                }
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<HttpStatus> statuses = new ArrayList<>();
+        for (Future<HttpStatus> result : results) {
+            statuses.add(result.get());
+        }
+        assertThat(statuses).contains(HttpStatus.CREATED, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private User newUser(String password) {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("ph-" + suffix, suffix + "@ph.test", password));
+    }
+
+    private String storedPassword(User user) {
+        return userRepository.findByEmail(user.getEmail()).orElseThrow().getPassword();
+    }
+}
@@ -0,0 +1,88 @@
+package com.crud_repeat_nocopy_0828.comment;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.support.QueryCounter;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 저장 처리량 비교 (rows/sec)
+ * before : POST /schedules/{scheduleId}/comments 를 반복 호출하는 것과 같은 경로 (건마다 트랜잭션 + INSERT)
+ * after  : 대량 생성 (pooled ID + JDBC 배치 + 주기적 flush/clear)
+ * 준비된 SQL 문 수(하이버네이트 통계)로 배치가 실제로 묶였는지 확인한다. 처리량은 기계마다 달라서 출력만 한다.
+ * 실행: ./gradlew benchmark
+ * */
+@Tag("benchmark")
+@SpringBootTest
+class CommentBulkInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkCreateOutperformsPerRowCreate() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("bulk-" + suffix, suffix + "@bulk.test", "pw"));
+        Schedule perRow = scheduleRepository.save(new Schedule(user, user.getUserName(), "per-row", "c"));
+        Schedule bulk = scheduleRepository.save(new Schedule(user, user.getUserName(), "bulk", "c"));
+
+        List<CommentCreateRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new CommentCreateRequest("comment-" + i))
+                .toList();
+
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        queryCounter.reset();
+        long start = System.nanoTime();
+        for (CommentCreateRequest request : requests) {
+            commentService.create(perRow.getId(), user.getId(), request);
+        }
+        long perRowNanos = System.nanoTime() - start;
+        long perRowStatements = queryCounter.count();
+
+        queryCounter.reset();
+        start = System.nanoTime();
+        commentService.createAll(bulk.getId(), user.getId(), requests);
+        long bulkNanos = System.nanoTime() - start;
+        long bulkStatements = queryCounter.count();
+
+        assertThat(commentRepository.findAllResponsesByScheduleId(bulk.getId())).hasSize(ROWS);
+        // 건마다 INSERT + 댓글 수 UPDATE 가 나가는 쪽은 행 수 이상, 배치 쪽은 배치 크기로 나눈 만큼 + id 할당
+        assertThat(perRowStatements).isGreaterThanOrEqualTo(ROWS);
+        assertThat(bulkStatements).as("bulk %d vs per-row %d statements", bulkStatements, perRowStatements)
+                .isLessThan(ROWS / 10);
+
+        double perRowSeconds = perRowNanos / 1_000_000_000.0;
+        double bulkSeconds = bulkNanos / 1_000_000_000.0;
+        System.out.printf("[comment-insert] per-row : %.0f rows/sec (%d statements)%n", ROWS / perRowSeconds, perRowStatements);
+        System.out.printf("[comment-insert] bulk    : %.0f rows/sec (%d statements)%n", ROWS / bulkSeconds, bulkStatements);
+    }
+}
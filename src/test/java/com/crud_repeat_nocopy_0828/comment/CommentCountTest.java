@@ -0,0 +1,83 @@
+package com.crud_repeat_nocopy_0828.comment;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.CommentCountReconciler;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentCommentsDoNotLoseIncrements() throws Exception {
+        Schedule schedule = newSchedule();
+        User user = schedule.getUser();
+        int threads = 8;
+        int perThread = 25;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    commentService.create(schedule.getId(), user.getId(), new CommentCreateRequest("c"));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(scheduleRepository.findResponseById(schedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(threads * perThread);
+    }
+
+    @Test
+    void reconcilerRepairsDrift() {
+        Schedule schedule = newSchedule();
+        commentService.create(schedule.getId(), schedule.getUser().getId(), new CommentCreateRequest("c"));
+        jdbcTemplate.update("update schedules set comment_count = 42 where id = ?", schedule.getId());
+
+        commentCountReconciler.reconcileAll();
+
+        assertThat(scheduleRepository.findResponseById(schedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(1);
+    }
+
+    private Schedule newSchedule() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("cc-" + suffix, suffix + "@cc.test", "pw"));
+        return scheduleRepository.save(new Schedule(user, user.getUserName(), "title", "content"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.crud_repeat_nocopy_0828.comment;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentSliceResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 목록 조회 vs 키셋(커서) 페이지 조회 비교
+ * 실행: ./gradlew benchmark
+ * */
+@Tag("benchmark")
+@DataJpaTest
+@Import(CommentService.class)
+class CommentFeedBenchmarkTest {
+
+    private static final int COMMENT_COUNT = 20_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommentService commentService;
+
+    private long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        // id 는 TABLE 전략(id_sequences)으로 발급되므로 JDBC 로 직접 넣을 때는 명시한다
+        long userId = 1L;
+        scheduleId = 1L;
+        jdbcTemplate.update("insert into users (id, user_name, email, password, version) values (?, 'bench', 'bench@test.com', 'pw', 0)", userId);
+        jdbcTemplate.update("insert into schedules (id, user_id, user_name, title, content, comment_count, version) values (?, ?, 'bench', 't', 'c', 0, 0)", scheduleId, userId);
+
+        List<Object[]> rows = new ArrayList<>(COMMENT_COUNT);
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            rows.add(new Object[]{i + 1L, scheduleId, userId, "comment-" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into comments (id, schedule_id, user_id, content, version) values (?, ?, ?, ?, 0)", rows);
+    }
+
+    @Test
+    void keysetPageCostsTheSameAtAnyDepth() {
+        // 워밍업
+        commentService.findAllBySchedule(scheduleId);
+        commentService.findSliceBySchedule(scheduleId, null, PAGE_SIZE);
+
+        long fullListNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            int size = commentService.findAllBySchedule(scheduleId).size();
+            fullListNanos += System.nanoTime() - start;
+            assertThat(size).isEqualTo(COMMENT_COUNT);
+        }
+
+        // 첫 페이지와 마지막 근처 페이지의 비용을 따로 잰다
+        long firstPageNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            commentService.findSliceBySchedule(scheduleId, null, PAGE_SIZE);
+            firstPageNanos += System.nanoTime() - start;
+        }
+
+        String cursor = null;
+        int pages = 0;
+        long deepPageNanos = 0;
+        do {
+            long start = System.nanoTime();
+            CommentSliceResponse slice = commentService.findSliceBySchedule(scheduleId, cursor, PAGE_SIZE);
+            long elapsed = System.nanoTime() - start;
+            if (pages >= COMMENT_COUNT / PAGE_SIZE - ROUNDS) {
+                deepPageNanos += elapsed;
+            }
+            cursor = slice.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(COMMENT_COUNT / PAGE_SIZE);
+        System.out.printf("[comment-feed] full list  avg %.2f ms (%d rows)%n", fullListNanos / 1e6 / ROUNDS, COMMENT_COUNT);
+        System.out.printf("[comment-feed] first page avg %.2f ms (%d rows)%n", firstPageNanos / 1e6 / ROUNDS, PAGE_SIZE);
+        System.out.printf("[comment-feed] deep page  avg %.2f ms (%d rows)%n", deepPageNanos / 1e6 / ROUNDS, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.crud_repeat_nocopy_0828.comment;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentWriteResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentWriteBehindBuffer;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.comment.write-behind.enabled=true",
+        "app.comment.write-behind.durability=ACKNOWLEDGED"
+})
+class CommentWriteBehindTest {
+
+    @Autowired
+    private CommentWriteBehindBuffer buffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void bufferedCommentsAreGroupCommitted() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("wb-" + suffix, suffix + "@wb.test", "pw"));
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "title", "content"));
+
+        List<String> handles = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            CommentWriteResponse response = buffer.submit(schedule.getId(), user.getId(), "c" + i);
+            assertThat(response.getStatus()).isEqualTo(CommentWriteResponse.Status.PENDING);
+            handles.add(response.getHandle());
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline
+                && buffer.find(handles.get(handles.size() - 1)).getStatus() == CommentWriteResponse.Status.PENDING) {
+            Thread.sleep(20);
+        }
+
+        assertThat(handles).allSatisfy(handle ->
+                assertThat(buffer.find(handle).getStatus()).isEqualTo(CommentWriteResponse.Status.CREATED));
+        assertThat(scheduleRepository.findResponseById(schedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(50);
+    }
+}
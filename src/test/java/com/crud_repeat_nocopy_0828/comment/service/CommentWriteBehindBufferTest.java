@@ -0,0 +1,134 @@
+package com.crud_repeat_nocopy_0828.comment.service;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentWriteResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쓰기 지연 버퍼의 큐/종료/실패 처리 (DB 없이 묶음 저장을 가짜로 바꿔서)
+ * CommentGroupWriter, PendingComment 가 패키지 전용이라 같은 패키지에 둔다.
+ * */
+class CommentWriteBehindBufferTest {
+
+    private static final long SCHEDULE_ID = 1L;
+    private static final long USER_ID = 2L;
+
+    private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private final CommentGroupWriter writer = mock(CommentGroupWriter.class);
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private CommentWriteBehindBuffer buffer;
+
+    CommentWriteBehindBufferTest() {
+        User user = new User("wb", "wb@wb.test", "pw");
+        when(scheduleRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new Schedule(user, user.getUserName(), "t", "c")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void fullQueueIsRejectedWith503() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return assignIds(invocation.getArgument(0));
+        });
+        buffer = start(1, 1, 0);
+
+        buffer.submit(SCHEDULE_ID, USER_ID, "first");      // flusher 가 꺼내서 저장 중에 멈춘다
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.submit(SCHEDULE_ID, USER_ID, "second");     // 큐 한 칸을 채운다
+
+        assertThatThrownBy(() -> buffer.submit(SCHEDULE_ID, USER_ID, "third"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        release.countDown();
+    }
+
+    @Test
+    void stopSavesEveryAcceptedCommentAndThenRejects() {
+        when(writer.write(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        buffer = start(1000, 7, 50);
+
+        List<String> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(buffer.submit(SCHEDULE_ID, USER_ID, "c" + i).getHandle());
+        }
+        buffer.stop();
+
+        assertThat(handles).allSatisfy(handle ->
+                assertThat(buffer.find(handle).getStatus()).isEqualTo(CommentWriteResponse.Status.CREATED));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+        assertThatThrownBy(() -> buffer.submit(SCHEDULE_ID, USER_ID, "late"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    // 묶음 중 한 건이 전체를 롤백시키면 한 건씩 다시 저장해서 그 한 건만 FAILED
+    @Test
+    void failingGroupCommitFallsBackToPerRowWrites() {
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(pending -> pending.content().equals("bad"))) {
+                batchSizes.add(batch.size());
+                throw new IllegalStateException("constraint violation");
+            }
+            return assignIds(batch);
+        });
+        // linger 를 길게 잡아 세 건이 한 묶음으로 나가게 한다
+        buffer = start(100, 10, 500);
+
+        String good1 = buffer.submit(SCHEDULE_ID, USER_ID, "good-1").getHandle();
+        String bad = buffer.submit(SCHEDULE_ID, USER_ID, "bad").getHandle();
+        String good2 = buffer.submit(SCHEDULE_ID, USER_ID, "good-2").getHandle();
+        buffer.stop();
+
+        assertThat(batchSizes).startsWith(3);
+        assertThat(buffer.find(good1).getStatus()).isEqualTo(CommentWriteResponse.Status.CREATED);
+        assertThat(buffer.find(good2).getStatus()).isEqualTo(CommentWriteResponse.Status.CREATED);
+        assertThat(buffer.find(bad).getStatus()).isEqualTo(CommentWriteResponse.Status.FAILED);
+    }
+
+    private CommentWriteBehindBuffer start(int queueCapacity, int batchSize, long lingerMs) {
+        CommentWriteBehindBuffer started = new CommentWriteBehindBuffer(writer, scheduleRepository, true,
+                CommentWriteBehindBuffer.Durability.ACKNOWLEDGED, queueCapacity, batchSize, lingerMs, 10, 2000);
+        started.start();
+        return started;
+    }
+
+    private List<Long> assignIds(List<PendingComment> batch) {
+        batchSizes.add(batch.size());
+        List<Long> assigned = new ArrayList<>();
+        batch.forEach(pending -> assigned.add(ids.incrementAndGet()));
+        return assigned;
+    }
+}
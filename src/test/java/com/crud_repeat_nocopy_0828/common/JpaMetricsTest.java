@@ -0,0 +1,113 @@
+package com.crud_repeat_nocopy_0828.common;
+
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * jpa.query / jpa.query.rows (MicrometerStatisticsFactory) 와
+ * jpa.persistence-context.entities (PersistenceContextMetricsInterceptor) 가 스프링의 MeterRegistry 에 남는지
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JpaMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void queriesAreTaggedByOperationAndEntityNotByQueryText() {
+        Schedule schedule = newSchedule();
+        long timedBefore = queryTimerCount("select", "Schedule");
+        long rowsBefore = queryRowsCount("select", "Schedule");
+
+        scheduleRepository.findResponseById(schedule.getId());
+        scheduleRepository.findAllResponses();
+
+        // 서로 다른 JPQL 두 개가 같은 시계열 하나로 모인다
+        assertThat(queryTimerCount("select", "Schedule")).isEqualTo(timedBefore + 2);
+        assertThat(queryRowsCount("select", "Schedule")).isEqualTo(rowsBefore + 2);
+
+        // 네이티브 쿼리는 테이블 이름으로 모이고, IN 목록 길이가 달라도 시계열이 늘지 않는다
+        commentRepository.findAllIdsByScheduleIdIn(List.of(schedule.getId()), 10);
+        int series = meterRegistry.find("jpa.query").timers().size();
+        commentRepository.findAllIdsByScheduleIdIn(List.of(schedule.getId(), -1L, -2L), 10);
+        assertThat(meterRegistry.find("jpa.query").timers()).hasSize(series);
+        assertThat(queryTimerCount("select", "comments")).isGreaterThanOrEqualTo(2);
+
+        for (Meter meter : meterRegistry.find("jpa.query").meters()) {
+            assertThat(meter.getId().getTags()).extracting(Tag::getKey).containsExactlyInAnyOrder("operation", "entity");
+        }
+    }
+
+    @Test
+    void persistenceContextSizeIsRecordedPerEndpoint() throws Exception {
+        Schedule schedule = newSchedule();
+        DistributionSummary list = entitiesSummary("/schedules");
+        long listCount = list == null ? 0 : list.count();
+        double listTotal = list == null ? 0 : list.totalAmount();
+        DistributionSummary single = entitiesSummary("/schedules/{id}");
+        long singleCount = single == null ? 0 : single.count();
+        double singleTotal = single == null ? 0 : single.totalAmount();
+
+        mockMvc.perform(get("/schedules")).andExpect(status().isOk());
+        mockMvc.perform(get("/schedules/" + schedule.getId())).andExpect(status().isOk());
+
+        // 목록은 프로젝션이라 엔티티가 올라가지 않고, 단건은 Schedule 엔티티를 읽는다
+        assertThat(entitiesSummary("/schedules").count()).isEqualTo(listCount + 1);
+        assertThat(entitiesSummary("/schedules").totalAmount()).isEqualTo(listTotal);
+        assertThat(entitiesSummary("/schedules/{id}").count()).isEqualTo(singleCount + 1);
+        assertThat(entitiesSummary("/schedules/{id}").totalAmount()).isGreaterThanOrEqualTo(singleTotal + 1);
+    }
+
+    private long queryTimerCount(String operation, String entity) {
+        Timer timer = meterRegistry.find("jpa.query").tag("operation", operation).tag("entity", entity).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long queryRowsCount(String operation, String entity) {
+        DistributionSummary rows = meterRegistry.find("jpa.query.rows")
+                .tag("operation", operation).tag("entity", entity).summary();
+        return rows == null ? 0 : rows.count();
+    }
+
+    private DistributionSummary entitiesSummary(String uri) {
+        return meterRegistry.find("jpa.persistence-context.entities").tag("uri", uri).tag("method", "GET").summary();
+    }
+
+    private Schedule newSchedule() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("metrics-" + suffix, suffix + "@metrics.test", "pw"));
+        return scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.crud_repeat_nocopy_0828.common;
+
+import com.crud_repeat_nocopy_0828.common.session.SessionConst;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 버킷 3개, 충전은 사실상 없음 → 같은 사용자의 4번째 댓글 작성은 429
+@SpringBootTest(properties = {
+        "app.rate-limit.policies.comment-create.capacity=3",
+        "app.rate-limit.policies.comment-create.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private User first;
+    private User second;
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        first = newUser("rl1");
+        second = newUser("rl2");
+        scheduleId = scheduleRepository.save(new Schedule(first, first.getUserName(), "t", "c")).getId();
+    }
+
+    @Test
+    void burstOverCapacityIsRejectedPerUser() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(createComment(first)).andExpect(status().isCreated());
+        }
+        mockMvc.perform(createComment(first))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        // 다른 사용자는 자기 버킷을 쓴다
+        mockMvc.perform(createComment(second)).andExpect(status().isCreated());
+
+        assertThat(meterRegistry.counter("ratelimit.decisions", "policy", "comment-create", "outcome", "rejected").count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    private RequestBuilder createComment(User user) {
+        return post("/schedules/" + scheduleId + "/comments")
+                .sessionAttr(SessionConst.LOGIN_USER, user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"hi\"}");
+    }
+
+    private User newUser(String prefix) {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User(prefix + "-" + suffix, prefix + suffix + "@rl.test", "pw"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.crud_repeat_nocopy_0828.common;
+
+import com.crud_repeat_nocopy_0828.common.datasource.ReadYourWritesTracker;
+import com.crud_repeat_nocopy_0828.common.datasource.ReplicaRoutingDataSource;
+import com.crud_repeat_nocopy_0828.user.dto.UserResponse;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB / 복제본 역할의 H2 인메모리 DB 두 개로 라우팅을 확인한다.
+ * 복제는 없으므로 테스트 시작 시 주 DB 를 SCRIPT 로 떠서 복제본에 부어 넣고(스냅샷),
+ * 그 뒤 주 DB 에만 쓴 행이 보이는지로 어느 쪽에서 읽었는지 구분한다.
+ * replica-1 은 접속이 안 되는 주소라서 복제본 사이의 장애 전환도 같이 확인한다.
+ * */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.replicas[0].url=" + ReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].password=",
+        "app.datasource.replicas[1].url=jdbc:h2:tcp://127.0.0.1:1/unreachable",
+        "app.datasource.replicas[1].username=sa",
+        "app.datasource.replicas[1].connection-timeout-ms=250"
+})
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReadYourWritesTracker tracker;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User snapshotUser;
+
+    @BeforeEach
+    void copyPrimaryToReplica() {
+        snapshotUser = userRepository.save(newUser("snap"));
+
+        // 트랜잭션 밖의 JdbcTemplate 는 주 DB 로 간다
+        List<String> script = jdbcTemplate.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource());
+        replica.execute("DROP ALL OBJECTS");
+        script.stream()
+                .filter(sql -> !sql.startsWith("--"))
+                .forEach(replica::execute);
+    }
+
+    @AfterEach
+    void unbind() {
+        tracker.unbind();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndFailOverBetweenReplicas() {
+        User primaryOnly = userRepository.save(newUser("primary-only"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(userService.findAll())
+                    .extracting(UserResponse::getId)
+                    .contains(snapshotUser.getId())
+                    .doesNotContain(primaryOnly.getId());
+        }
+        assertThat(routingDataSource.healthyReplicaCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryUntilStickyWindowEnds() {
+        tracker.bind(snapshotUser.getId());
+        User written = transactionTemplate.execute(status -> userRepository.save(newUser("mine")));
+
+        assertThat(userService.findAll()).extracting(UserResponse::getId).contains(written.getId());
+
+        // 다른 사용자(또는 비로그인)의 조회는 여전히 복제본
+        tracker.bind(null);
+        assertThat(userService.findAll()).extracting(UserResponse::getId).doesNotContain(written.getId());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotMakeTheUserSticky() {
+        User primaryOnly = userRepository.save(newUser("primary-only"));
+
+        tracker.bind(snapshotUser.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(newUser("rolled-back"));
+            status.setRollbackOnly();
+        });
+
+        // 고정 시간은 커밋된 쓰기부터 : 롤백이면 계속 복제본에서 읽는다
+        assertThat(userService.findAll()).extracting(UserResponse::getId).doesNotContain(primaryOnly.getId());
+    }
+
+    @Test
+    void replicaReadsDoNotPopulateTheSecondLevelCache() {
+        Long id = snapshotUser.getId();
+        entityManagerFactory.getCache().evict(User.class, id);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> assertThat(userRepository.findById(id)).isPresent());
+        assertThat(entityManagerFactory.getCache().contains(User.class, id)).isFalse();
+
+        // 주 DB 에서 읽은 것은 그대로 캐시에 들어간다
+        transactionTemplate.executeWithoutResult(status -> assertThat(userRepository.findById(id)).isPresent());
+        assertThat(entityManagerFactory.getCache().contains(User.class, id)).isTrue();
+    }
+
+    private DataSource replicaDataSource() {
+        return new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    }
+
+    private User newUser(String prefix) {
+        String suffix = String.valueOf(System.nanoTime());
+        return new User(prefix + "-" + suffix, suffix + "@replica.test", "pw");
+    }
+}
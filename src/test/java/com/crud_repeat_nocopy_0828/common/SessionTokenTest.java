@@ -0,0 +1,142 @@
+package com.crud_repeat_nocopy_0828.common;
+
+import com.crud_repeat_nocopy_0828.common.session.SessionTokenCodec;
+import com.crud_repeat_nocopy_0828.common.session.TokenRevocationList;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 토큰 방식 : 세션을 만들지 않고, 로그아웃한 토큰과 변조한 토큰은 401
+@SpringBootTest(properties = {
+        "app.session.mode=token",
+        "app.session.token.secret=" + SessionTokenTest.SECRET
+})
+@AutoConfigureMockMvc
+class SessionTokenTest {
+
+    static final String SECRET = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";   // 32바이트
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private User user;
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = userRepository.save(new User("tk-" + suffix, suffix + "@token.test", "pw"));
+        scheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c")).getId();
+    }
+
+    @Test
+    void tokenAuthenticatesWithoutSessionUntilLogout() throws Exception {
+        MvcResult login = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("email", user.getEmail(), "password", "pw"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        assertThat(login.getRequest().getSession(false)).isNull();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("token").asText();
+
+        mockMvc.perform(update(token)).andExpect(status().isOk());
+
+        mockMvc.perform(post("/logout").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(update(token)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tamperedOrMissingTokenIsUnauthorized() throws Exception {
+        MvcResult login = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("email", user.getEmail(), "password", "pw"))))
+                .andReturn();
+        String token = objectMapper.readTree(login.getResponse().getContentAsString()).get("token").asText();
+        // 본문(userId 자리)의 한 글자를 바꾼다. 서명은 그대로라서 검증에 실패해야 한다
+        char c = token.charAt(5);
+        String tampered = token.substring(0, 5) + (c == 'A' ? 'B' : 'A') + token.substring(6);
+
+        mockMvc.perform(update(tampered)).andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/schedules/" + scheduleId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", "x", "content", "y"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("email", user.getEmail(), "password", "nope"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // 폐기 목록이 넘쳐 항목이 밀려나도 폐기한 토큰이 다시 통과하면 안 된다
+    @Test
+    void overflowingTheRevocationListKeepsRevokedTokensRejected() {
+        SessionTokenCodec codec = new SessionTokenCodec(SECRET, Duration.ofMinutes(30));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenRevocationList revocations = new TokenRevocationList(codec, registry, 2);
+
+        List<SessionTokenCodec.Claims> revoked = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            SessionTokenCodec.Claims claims = codec.verify(codec.issue(i)).orElseThrow();
+            revocations.revoke(claims);
+            revoked.add(claims);
+        }
+
+        assertThat(revoked).allSatisfy(claims -> assertThat(revocations.isRevoked(claims)).isTrue());
+        assertThat(registry.counter("session.token.revocations.evicted").count()).isPositive();
+    }
+
+    @Test
+    void tokenModeRefusesToStartWithoutASecret() {
+        assertThatThrownBy(() -> new SessionTokenCodec("", Duration.ofMinutes(30)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RequestBuilder update(String token) throws Exception {
+        return put("/schedules/" + scheduleId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "x", "content", "y")));
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
@@ -0,0 +1,110 @@
+package com.crud_repeat_nocopy_0828.feed;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedItem;
+import com.crud_repeat_nocopy_0828.feed.dto.FeedResponse;
+import com.crud_repeat_nocopy_0828.feed.service.ActivityFeed;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 버퍼를 작게 해서 버퍼 밖 페이지가 DB 로 넘어가는 경로도 탄다
+@SpringBootTest(properties = "app.feed.timeline-capacity=3")
+class ActivityFeedTest {
+
+    @Autowired
+    private ActivityFeed activityFeed;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void writesShowUpNewestFirstInTheGlobalFeed() {
+        User user = newUser();
+        activityFeed.readAll(null, 1);  // 전체 타임라인을 먼저 채워 두고 이후 쓰기는 이벤트로 들어가게 한다
+
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+        CommentResponse comment = commentService.create(schedule.getId(), user.getId(), new CommentCreateRequest("hi"));
+
+        assertThat(activityFeed.readAll(null, 2).getItems())
+                .extracting(FeedItem::getType, FeedItem::getId)
+                .containsExactly(
+                        tuple(FeedItem.TYPE_COMMENT, comment.getId()),
+                        tuple(FeedItem.TYPE_SCHEDULE, schedule.getId()));
+    }
+
+    @Test
+    void userFeedIncludesCommentsOnMySchedules() {
+        User owner = newUser();
+        User commenter = newUser();
+        User stranger = newUser();
+        // 세 사람 모두 타임라인이 메모리에 올라온 뒤의 쓰기
+        activityFeed.readFor(owner.getId(), null, 10);
+        activityFeed.readFor(commenter.getId(), null, 10);
+        activityFeed.readFor(stranger.getId(), null, 10);
+
+        Schedule schedule = scheduleRepository.save(new Schedule(owner, owner.getUserName(), "t", "c"));
+        CommentResponse comment = commentService.create(schedule.getId(), commenter.getId(), new CommentCreateRequest("hi"));
+
+        assertThat(ids(activityFeed.readFor(owner.getId(), null, 10))).containsExactly(comment.getId(), schedule.getId());
+        assertThat(ids(activityFeed.readFor(commenter.getId(), null, 10))).containsExactly(comment.getId());
+        assertThat(activityFeed.readFor(stranger.getId(), null, 10).getItems()).isEmpty();
+
+        commentService.delete(comment.getId(), commenter.getId());
+        assertThat(ids(activityFeed.readFor(owner.getId(), null, 10))).containsExactly(schedule.getId());
+    }
+
+    @Test
+    void pagesPastTheBufferFallBackToTheDatabase() {
+        User user = newUser();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(scheduleRepository.save(new Schedule(user, user.getUserName(), "t" + i, "c")).getId());
+        }
+        double databaseReadsBefore = meterRegistry.counter("feed.reads", "source", "database").count();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            FeedResponse page = activityFeed.readFor(user.getId(), cursor, 2);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Collections.reverse(created);
+        assertThat(seen).containsExactlyElementsOf(created);
+        assertThat(meterRegistry.counter("feed.reads", "source", "database").count()).isGreaterThan(databaseReadsBefore);
+    }
+
+    private static List<Long> ids(FeedResponse response) {
+        return response.getItems().stream().map(FeedItem::getId).toList();
+    }
+
+    private User newUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("feed-" + suffix, suffix + "@feed.test", "pw"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.crud_repeat_nocopy_0828.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends ReadLoadTestSupport {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,76 @@
+package com.crud_repeat_nocopy_0828.loadtest;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.reactive.ReactiveReadApplication;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 블로킹(MVC + JPA) 조회와 논블로킹(WebFlux + R2DBC) 조회를 같은 장비, 같은 DB 로 비교
+ * 두 앱을 한 JVM 에 띄우고 같은 H2 메모리 DB 를 공유시켜 같은 댓글 목록을 번갈아 잰다.
+ * 실행: ./gradlew benchmark
+ * */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+class ReactiveReadLoadTest {
+
+    private static final int COMMENTS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void blockingVersusReactiveCommentReads() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("load-" + suffix, suffix + "@load.test", "pw"));
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "load", "test"));
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(new Comment(schedule, user, "comment " + i));
+        }
+        commentRepository.saveAll(comments);
+
+        // 스키마는 MVC 앱이 만들어 두었으므로 리액티브 앱은 같은 DB 에 붙기만 한다
+        try (ConfigurableApplicationContext reactive = ReactiveReadApplication.builder()
+                .properties(
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///loadtest?options=DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "spring.r2dbc.username=sa",
+                        "spring.r2dbc.password=")
+                .run()) {
+            int reactivePort = reactive.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String path = "/schedules/" + schedule.getId() + "/comments";
+
+            // 먼저 뜬 쪽이 워밍업 이득을 보지 않도록 한 번씩 돌리고 나서 잰다
+            ReadLoadTestSupport.measure("blocking-warmup", URI.create("http://localhost:" + port + path));
+            ReadLoadTestSupport.measure("reactive-warmup", URI.create("http://localhost:" + reactivePort + path));
+
+            ReadLoadTestSupport.measure("blocking", URI.create("http://localhost:" + port + path));
+            ReadLoadTestSupport.measure("reactive", URI.create("http://localhost:" + reactivePort + path));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.crud_repeat_nocopy_0828.loadtest;
+
+import com.crud_repeat_nocopy_0828.comment.entity.Comment;
+import com.crud_repeat_nocopy_0828.comment.repository.CommentRepository;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 부하 테스트 공통 로직 (처리량 + p99 지연 출력)
+ * 같은 시나리오를 플랫폼 스레드 / 가상 스레드 모드로 각각 띄워서 비교한다.
+ * 처리량과 지연은 200 응답만으로 계산하고, 과부하로 거절된 503 은 따로 세어 출력한다.
+ * 실행: ./gradlew benchmark -PjavaVersion=21
+ * */
+abstract class ReadLoadTestSupport {
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int COMMENTS = 20;
+    private static final long REJECTED = -1;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    protected abstract String mode();
+
+    @Test
+    void scheduleReadsUnderLoad() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("load-" + suffix, suffix + "@load.test", "pw"));
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "load", "test"));
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            comments.add(new Comment(schedule, user, "comment " + i));
+        }
+        commentRepository.saveAll(comments);
+        URI uri = URI.create("http://localhost:" + port + "/schedules/" + schedule.getId() + "/comments");
+
+        measure(mode(), uri);
+    }
+
+    // 같은 조건으로 uri 를 두드리고 처리량 / 지연 분포를 출력한다
+    static void measure(String mode, URI uri) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        long started = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    long t = System.nanoTime();
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    assertThat(response.statusCode()).isIn(200, 503);
+                    latencies[i] = response.statusCode() == 200 ? System.nanoTime() - t : REJECTED;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        executor.shutdown();
+
+        long[] served = Arrays.stream(all).filter(latency -> latency != REJECTED).sorted().toArray();
+        int rejected = all.length - served.length;
+        assertThat(served).as("[load:%s] every request was rejected", mode).isNotEmpty();
+        System.out.printf("[load:%s] %.0f req/sec, p50 %.2f ms, p99 %.2f ms, 503 %d/%d%n", mode,
+                served.length / seconds, served[served.length / 2] / 1e6, served[(int) (served.length * 0.99)] / 1e6,
+                rejected, all.length);
+    }
+}
@@ -0,0 +1,20 @@
+package com.crud_repeat_nocopy_0828.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 가상 스레드는 Java 21 이상에서만 켜진다 (-PjavaVersion=21)
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadLoadTest extends ReadLoadTestSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
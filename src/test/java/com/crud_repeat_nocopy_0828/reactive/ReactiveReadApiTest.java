@@ -0,0 +1,106 @@
+package com.crud_repeat_nocopy_0828.reactive;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test?options=DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+        "management.server.port=-1"
+})
+class ReactiveReadApiTest {
+
+    private static final AtomicLong IDS = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private long userId;
+    private long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        userId = IDS.incrementAndGet();
+        scheduleId = IDS.incrementAndGet();
+        execute("insert into users (id, user_name, email, created_at, updated_at) values (:a0, :a1, :a2, :a3, :a4)",
+                userId, "rx-" + userId, userId + "@rx.test", LocalDateTime.now(), LocalDateTime.now());
+        execute("insert into schedules (id, user_id, user_name, title, content, created_at, updated_at) "
+                        + "values (:a0, :a1, :a2, 't', 'c', :a3, :a4)",
+                scheduleId, userId, "rx-" + userId, LocalDateTime.now(), LocalDateTime.now());
+        for (int i = 0; i < 5; i++) {
+            execute("insert into comments (id, schedule_id, user_id, content, created_at, updated_at) "
+                            + "values (:a0, :a1, :a2, :a3, :a4, :a5)",
+                    IDS.incrementAndGet(), scheduleId, userId, "c" + i, LocalDateTime.now(), LocalDateTime.now());
+        }
+    }
+
+    @Test
+    void findsAScheduleWithTheSameShapeAsTheBlockingApi() {
+        ScheduleResponse schedule = webTestClient.get().uri("/schedules/{id}", scheduleId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ScheduleResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(schedule).isNotNull();
+        assertThat(schedule.getUserId()).isEqualTo(userId);
+        assertThat(schedule.getUserName()).isEqualTo("rx-" + userId);
+        assertThat(schedule.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void streamsCommentsAsNdjsonWithBackpressure() {
+        Flux<CommentResponse> body = webTestClient.get().uri("/schedules/{id}/comments", scheduleId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(CommentResponse.class)
+                .getResponseBody();
+
+        // 두 개씩만 요청해 가며 받는다
+        StepVerifier.create(body.map(CommentResponse::getContent), 2)
+                .expectNext("c0", "c1")
+                .thenRequest(3)
+                .expectNext("c2", "c3", "c4")
+                .verifyComplete();
+    }
+
+    @Test
+    void softDeletedRowsAndMissingSchedulesAreNotFound() {
+        execute("update schedules set deleted_at = :a0 where id = :a1", LocalDateTime.now(), scheduleId);
+
+        webTestClient.get().uri("/schedules/{id}", scheduleId).exchange().expectStatus().isNotFound();
+        webTestClient.get().uri("/schedules/{id}/comments", scheduleId).exchange().expectStatus().isNotFound();
+    }
+
+    // 파라미터 이름은 순서대로 :a0, :a1, ...
+    private void execute(String sql, Object... args) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < args.length; i++) {
+            spec = spec.bind("a" + i, args[i]);
+        }
+        spec.then().block();
+    }
+}
@@ -0,0 +1,61 @@
+package com.crud_repeat_nocopy_0828.schedule;
+
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 새 변경이 없는 범위를 계속 폴링하는 클라이언트는 보관 기간이 지나도 410 을 받지 않는다
+ * 보관 기간을 1초로 줄여서, 마지막 변경보다 보관 기간 이상 지난 뒤에도 폴링이 이어지는지 본다.
+ * */
+@SpringBootTest(properties = {"app.sync.settle-lag-ms=0", "app.soft-delete.retention=PT1S"})
+class ScheduleChangesRetentionTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void idlePollingKeepsTheCursorInsideTheRetentionWindow() throws InterruptedException {
+        User user = userRepository.save(new User("idle", "idle@sync.test", "pw"));
+        scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+
+        String cursor = null;
+        ChangesResponse<ScheduleResponse> page;
+        do {
+            page = scheduleService.findChanges(cursor, null, 100);
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+
+        // 마지막 변경 이후 보관 기간의 세 배 동안 0.2초마다 폴링한다
+        Instant end = Instant.now().plus(Duration.ofSeconds(3));
+        while (Instant.now().isBefore(end)) {
+            Thread.sleep(200);
+            page = scheduleService.findChanges(cursor, null, 100);
+            assertThat(page.getItems()).isEmpty();
+            cursor = page.getNextCursor();
+        }
+
+        Long later = scheduleRepository.save(new Schedule(user, user.getUserName(), "later", "c")).getId();
+        assertThat(scheduleService.findChanges(cursor, null, 100).getItems())
+                .extracting(ScheduleResponse::getId)
+                .containsExactly(later);
+    }
+}
@@ -0,0 +1,146 @@
+package com.crud_repeat_nocopy_0828.schedule;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangeCursorCodec;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.common.pagination.DeletedItem;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleDeletionService;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 방금 쓴 행도 바로 보이도록 지연을 0 으로 둔다
+@SpringBootTest(properties = "app.sync.settle-lag-ms=0")
+class ScheduleChangesTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ScheduleDeletionService scheduleDeletionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void pagesThroughChangedSchedulesAndResumesFromCursor() {
+        Instant since = Instant.now().minusSeconds(1);
+        User user = newUser();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(scheduleRepository.save(new Schedule(user, user.getUserName(), "t" + i, "c")).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        ChangesResponse<ScheduleResponse> page;
+        do {
+            page = scheduleService.findChanges(cursor, since, 2);
+            page.getItems().forEach(s -> seen.add(s.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+
+        assertThat(seen).containsSubsequence(created);
+
+        // 새 변경이 없으면 빈 목록 + 훑은 경계까지 옮긴 커서
+        ChangesResponse<ScheduleResponse> idle = scheduleService.findChanges(cursor, null, 2);
+        assertThat(idle.getItems()).isEmpty();
+        assertThat(idle.getNextCursor()).isNotEqualTo(cursor);
+        cursor = idle.getNextCursor();
+
+        Long later = scheduleRepository.save(new Schedule(user, user.getUserName(), "later", "c")).getId();
+        assertThat(scheduleService.findChanges(cursor, null, 2).getItems())
+                .extracting(ScheduleResponse::getId)
+                .containsExactly(later);
+    }
+
+    @Test
+    void commentChangesUseTheirOwnCursorScope() {
+        Instant since = Instant.now().minusSeconds(1);
+        User user = newUser();
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+        CommentResponse comment = commentService.create(schedule.getId(), user.getId(), new CommentCreateRequest("hi"));
+
+        ChangesResponse<CommentResponse> changes = commentService.findChanges(null, since, 100);
+        assertThat(changes.getItems()).extracting(CommentResponse::getId).contains(comment.getId());
+
+        String scheduleCursor = scheduleService.findChanges(null, since, 1).getNextCursor();
+        assertThatThrownBy(() -> commentService.findChanges(scheduleCursor, null, 10))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void deletedRowsReachSyncClientsAsTombstones() {
+        Instant since = Instant.now().minusSeconds(1);
+        User user = newUser();
+        Schedule schedule = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+        CommentResponse comment = commentService.create(schedule.getId(), user.getId(), new CommentCreateRequest("hi"));
+
+        // 살아 있을 때 한 번 받아 간 클라이언트의 커서
+        String scheduleCursor = drain(cursor -> scheduleService.findChanges(cursor, since, 100), null);
+        String commentCursor = drain(cursor -> commentService.findChanges(cursor, since, 100), null);
+
+        commentService.delete(comment.getId(), user.getId());
+        scheduleDeletionService.delete(schedule.getId(), user.getId());
+
+        ChangesResponse<ScheduleResponse> scheduleChanges = scheduleService.findChanges(scheduleCursor, null, 100);
+        assertThat(scheduleChanges.getItems()).extracting(ScheduleResponse::getId).doesNotContain(schedule.getId());
+        assertThat(scheduleChanges.getDeleted()).extracting(DeletedItem::getId).contains(schedule.getId());
+        assertThat(scheduleChanges.getDeleted()).allSatisfy(deleted -> assertThat(deleted.getDeletedAt()).isNotNull());
+
+        ChangesResponse<CommentResponse> commentChanges = commentService.findChanges(commentCursor, null, 100);
+        assertThat(commentChanges.getItems()).extracting(CommentResponse::getId).doesNotContain(comment.getId());
+        assertThat(commentChanges.getDeleted()).extracting(DeletedItem::getId).contains(comment.getId());
+    }
+
+    @Test
+    void cursorsOlderThanTheTombstoneRetentionAreGone() {
+        String stale = ChangeCursorCodec.encode("schedules", Instant.now().minus(Duration.ofDays(2)), 0L);
+
+        assertThatThrownBy(() -> scheduleService.findChanges(stale, null, 10))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.GONE));
+        // 처음부터 받는 전체 동기화는 그대로 된다
+        assertThat(scheduleService.findChanges(null, null, 10).getNextCursor()).isNotNull();
+    }
+
+    // hasMore 가 false 가 될 때까지 읽고 마지막 커서를 돌려준다
+    private static String drain(Function<String, ChangesResponse<?>> read, String cursor) {
+        ChangesResponse<?> page;
+        do {
+            page = read.apply(cursor);
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+        return cursor;
+    }
+
+    private User newUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("sync-" + suffix, suffix + "@sync.test", "pw"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.crud_repeat_nocopy_0828.schedule;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 단건 / 댓글 목록 조건부 GET
+ * 바뀐 것이 없으면 304, 댓글이 달리면 두 도장이 모두 바뀌어 200 이어야 한다.
+ * */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleEtagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    private User user;
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = userRepository.save(new User("etag-" + suffix, suffix + "@etag.test", "pw"));
+        scheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c")).getId();
+    }
+
+    @Test
+    void unchangedResourcesAnswerNotModified() throws Exception {
+        for (String uri : new String[]{"/schedules/" + scheduleId, "/schedules/" + scheduleId + "/comments"}) {
+            String etag = mockMvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).as(uri).isNotBlank();
+
+            mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    void newCommentChangesBothStamps() throws Exception {
+        String scheduleUri = "/schedules/" + scheduleId;
+        String commentsUri = scheduleUri + "/comments";
+        String scheduleEtag = mockMvc.perform(get(scheduleUri)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String commentsEtag = mockMvc.perform(get(commentsUri)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        commentService.create(scheduleId, user.getId(), new CommentCreateRequest("hi"));
+
+        mockMvc.perform(get(scheduleUri).header(HttpHeaders.IF_NONE_MATCH, scheduleEtag))
+                .andExpect(status().isOk());
+        String changed = mockMvc.perform(get(commentsUri).header(HttpHeaders.IF_NONE_MATCH, commentsEtag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(commentsEtag);
+    }
+
+    @Test
+    void missingScheduleIsNotFound() throws Exception {
+        mockMvc.perform(get("/schedules/" + Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,93 @@
+package com.crud_repeat_nocopy_0828.schedule;
+
+import com.crud_repeat_nocopy_0828.common.concurrency.ConflictException;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleUpdateRequest;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 수정 처리량 비교 (updates/sec)
+ * baseline : 작성자 1명이 한 일정을 연속 수정
+ * hot      : 작성자 8명이 같은 일정을 기대 버전 없이 동시에 수정 (충돌 → 재시도)
+ * 낙관적 잠금은 잠금 대기가 없어서, 같은 행을 두고 다투더라도 처리량이 1명일 때와 크게 차이 나지 않아야 한다.
+ * 실행: ./gradlew benchmark
+ * */
+@Tag("benchmark")
+@SpringBootTest
+class ScheduleUpdateBenchmarkTest {
+
+    private static final int UPDATES = 2_000;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void contendedUpdatesStayNearSingleWriterThroughput() throws Exception {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("ub-" + suffix, suffix + "@ub.test", "pw"));
+        Schedule single = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+        Schedule hot = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c"));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            scheduleService.update(single.getId(), user.getId(), new ScheduleUpdateRequest("t" + i, "c", null));
+        }
+        double baseline = UPDATES / ((System.nanoTime() - start) / 1e9);
+
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger gaveUp = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            int writer = t;
+            executor.submit(() -> {
+                ready.await();
+                for (int i = 0; i < UPDATES / THREADS; i++) {
+                    try {
+                        scheduleService.update(hot.getId(), user.getId(), new ScheduleUpdateRequest("w" + writer + "-" + i, "c", null));
+                        applied.incrementAndGet();
+                    } catch (ConflictException e) {
+                        gaveUp.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start = System.nanoTime();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(120, TimeUnit.SECONDS)).isTrue();
+        double contended = applied.get() / ((System.nanoTime() - start) / 1e9);
+
+        // 반영된 수정 수 = 버전 증가 수 (덮어써져 사라진 수정이 없다)
+        assertThat(scheduleRepository.findResponseById(hot.getId()).orElseThrow().getVersion())
+                .isEqualTo(hot.getVersion() + applied.get());
+
+        System.out.printf("[schedule-update] single writer : %.0f updates/sec%n", baseline);
+        System.out.printf("[schedule-update] %d writers     : %.0f updates/sec (409 after retries: %d)%n",
+                THREADS, contended, gaveUp.get());
+        assertThat(contended).isGreaterThan(baseline * 0.5);
+    }
+}
@@ -0,0 +1,140 @@
+package com.crud_repeat_nocopy_0828.schedule;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentUpdateRequest;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.concurrency.ConflictException;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleResponse;
+import com.crud_repeat_nocopy_0828.schedule.dto.ScheduleUpdateRequest;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ScheduleUpdateConcurrencyTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 작성자가 "읽은 값 + 1" 을 기대 버전과 함께 보낸다.
+     * 409 를 받으면 다시 읽어서 보낸다. 증가분이 하나라도 덮어써지면 최종 값이 모자란다.
+     * */
+    @Test
+    void concurrentReadModifyWriteLosesNoUpdates() throws Exception {
+        Schedule schedule = newSchedule();
+        Long id = schedule.getId();
+        Long userId = schedule.getUser().getId();
+        int threads = 8;
+        int perThread = 20;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    while (true) {
+                        ScheduleResponse current = scheduleService.findById(id);
+                        String next = String.valueOf(Integer.parseInt(current.getTitle()) + 1);
+                        try {
+                            scheduleService.update(id, userId, new ScheduleUpdateRequest(next, "c", current.getVersion()));
+                            break;
+                        } catch (ConflictException e) {
+                            // 다른 작성자가 먼저 고쳤다 → 다시 읽는다
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        ScheduleResponse result = scheduleRepository.findResponseById(id).orElseThrow();
+        assertThat(result.getTitle()).isEqualTo(String.valueOf(threads * perThread));
+        assertThat(result.getVersion()).isEqualTo(schedule.getVersion() + threads * perThread);
+    }
+
+    @Test
+    void staleVersionReturnsCurrentState() {
+        Schedule schedule = newSchedule();
+        Long userId = schedule.getUser().getId();
+        ScheduleResponse first = scheduleService.update(schedule.getId(), userId,
+                new ScheduleUpdateRequest("1", "first", schedule.getVersion()));
+
+        assertThatThrownBy(() -> scheduleService.update(schedule.getId(), userId,
+                new ScheduleUpdateRequest("1", "stale", schedule.getVersion())))
+                .isInstanceOfSatisfying(ConflictException.class, e ->
+                        assertThat(((ScheduleResponse) e.getCurrent()).getContent()).isEqualTo("first"));
+        assertThat(scheduleService.findById(schedule.getId()).getVersion()).isEqualTo(first.getVersion());
+    }
+
+    /**
+     * 다른 인스턴스가 쓴 것처럼 2차 캐시를 거치지 않고 DB 만 바꾼다.
+     * 클라이언트는 DB 의 최신 버전을 들고 오므로, 캐시의 옛 버전과 비교해 409 를 내면 안 된다.
+     * */
+    @Test
+    void expectedVersionIsComparedWithTheDatabaseNotTheSecondLevelCache() {
+        Schedule schedule = newSchedule();
+        Long userId = schedule.getUser().getId();
+        scheduleRepository.findById(schedule.getId()).orElseThrow();
+        jdbcTemplate.update("update schedules set title = 'other', version = version + 1 where id = ?", schedule.getId());
+
+        ScheduleResponse updated = scheduleService.update(schedule.getId(), userId,
+                new ScheduleUpdateRequest("mine", "c", schedule.getVersion() + 1));
+
+        assertThat(updated.getTitle()).isEqualTo("mine");
+        assertThat(updated.getVersion()).isEqualTo(schedule.getVersion() + 2);
+    }
+
+    @Test
+    void commentUpdateChecksVersionToo() {
+        Schedule schedule = newSchedule();
+        Long userId = schedule.getUser().getId();
+        CommentResponse comment = commentService.create(schedule.getId(), userId, new CommentCreateRequest("a"));
+
+        CommentResponse edited = commentService.update(comment.getId(), userId,
+                new CommentUpdateRequest("b", comment.getVersion()));
+        assertThat(edited.getVersion()).isGreaterThan(comment.getVersion());
+
+        assertThatThrownBy(() -> commentService.update(comment.getId(), userId,
+                new CommentUpdateRequest("c", comment.getVersion())))
+                .isInstanceOf(ConflictException.class);
+        assertThat(commentService.findById(comment.getId()).getContent()).isEqualTo("b");
+    }
+
+    private Schedule newSchedule() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("ou-" + suffix, suffix + "@ou.test", "pw"));
+        return scheduleRepository.save(new Schedule(user, user.getUserName(), "0", "c"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.crud_repeat_nocopy_0828.search;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.search.dto.SearchHitResponse;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndex;
+import com.crud_repeat_nocopy_0828.search.service.SearchIndexBootstrap;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class SearchIndexTest {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private SearchIndexBootstrap searchIndexBootstrap;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void writesAreIndexedIncrementallyAndSurviveRebuild() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = userRepository.save(new User("search-" + suffix, suffix + "@search.test", "pw"));
+        // 일정은 제목(가중치 2)과 짧은 본문 둘 다에, 댓글은 긴 본문 한 곳에만 검색어가 있다 → 일정이 먼저
+        Schedule schedule = scheduleRepository.save(
+                new Schedule(user, user.getUserName(), "marathon " + suffix, suffix + " training plan"));
+        CommentResponse comment = commentService.create(schedule.getId(), user.getId(),
+                new CommentCreateRequest("see you at the city marathon next sunday morning " + suffix));
+        searchIndex.awaitRefresh();
+
+        assertThat(searchIndex.search(suffix, null, 0, 10).getHits())
+                .extracting(SearchHitResponse::getType, SearchHitResponse::getId)
+                .containsExactly(
+                        tuple(SearchIndex.TYPE_SCHEDULE, schedule.getId()),
+                        tuple(SearchIndex.TYPE_COMMENT, comment.getId()));
+
+        searchIndexBootstrap.rebuild();
+
+        assertThat(searchIndex.search(suffix, SearchIndex.TYPE_COMMENT, 0, 10).getHits())
+                .extracting(SearchHitResponse::getId)
+                .containsExactly(comment.getId());
+    }
+
+    // page * size 가 int 를 넘어도 결과 창 제한(400)으로 막힌다
+    @Test
+    void pagesPastTheResultWindowAreRejectedEvenWhenTheOffsetOverflows() {
+        assertThatThrownBy(() -> searchIndex.search("anything", null, Integer.MAX_VALUE / 50, 100))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,27 @@
+package com.crud_repeat_nocopy_0828.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 하이버네이트 통계로 실행된 SQL 문 수를 센다.
+ * 테스트 설정에서 hibernate.generate_statistics = true 여야 한다.
+ * */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    // 준비된(PreparedStatement) SQL 문 수 = DB 로 나간 쿼리 수
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
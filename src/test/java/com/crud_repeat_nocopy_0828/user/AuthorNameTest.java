@@ -0,0 +1,138 @@
+package com.crud_repeat_nocopy_0828.user;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.dto.CommentResponse;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.etag.VersionStamp;
+import com.crud_repeat_nocopy_0828.common.pagination.ChangesResponse;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.AuthorNameReconciler;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleService;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleStamps;
+import com.crud_repeat_nocopy_0828.user.dto.UserUpdateRequest;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크 경계를 타도록 청크 크기를 일정 수보다 작게
+@SpringBootTest(properties = {"app.author-name.chunk-size=2", "app.sync.settle-lag-ms=0"})
+class AuthorNameTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ScheduleStamps scheduleStamps;
+
+    @Autowired
+    private AuthorNameReconciler authorNameReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void renamePropagatesToEverySchedule() throws InterruptedException {
+        User user = newUser();
+        List<Long> scheduleIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduleIds.add(scheduleRepository.save(new Schedule(user, user.getUserName(), "t" + i, "c")).getId());
+        }
+        // 2차 캐시에 예전 이름을 올려 둔다
+        scheduleIds.forEach(scheduleService::findById);
+        long versionBefore = scheduleService.findById(scheduleIds.get(0)).getVersion();
+
+        String renamed = "renamed-" + System.nanoTime();
+        userService.updateMe(user.getId(), new UserUpdateRequest(renamed, renamed + "@author.test", "pw2"));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && staleRows(user.getId(), renamed) > 0) {
+            Thread.sleep(20);
+        }
+
+        assertThat(staleRows(user.getId(), renamed)).isZero();
+        // 캐시 항목도 커밋 후에 지워져서 단건 조회가 새 이름을 본다
+        assertThat(scheduleIds).allSatisfy(id -> assertThat(scheduleService.findById(id).getUserName()).isEqualTo(renamed));
+        assertThat(scheduleService.findById(scheduleIds.get(0)).getVersion()).isGreaterThan(versionBefore);
+    }
+
+    // 댓글 작성자 이름은 users 조인이라 행이 안 바뀌어도, 댓글 목록 ETag 와 /comments/changes 는 새 이름을 알려야 한다
+    @Test
+    void renameReachesCommentListEtagsAndCommentChanges() throws InterruptedException {
+        User owner = newUser();
+        User commenter = newUser();
+        List<Long> scheduleIds = new ArrayList<>();
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long scheduleId = scheduleRepository.save(new Schedule(owner, owner.getUserName(), "t" + i, "c")).getId();
+            scheduleIds.add(scheduleId);
+            commentIds.add(commentService.create(scheduleId, commenter.getId(), new CommentCreateRequest("hi")).getId());
+        }
+        List<VersionStamp> before = scheduleIds.stream().map(id -> scheduleStamps.forComments(id).orElseThrow()).toList();
+        Instant since = Instant.now();
+
+        String renamed = "renamed-" + System.nanoTime();
+        userService.updateMe(commenter.getId(), new UserUpdateRequest(renamed, renamed + "@author.test", "pw2"));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && renamedChanges(since, renamed) < commentIds.size()) {
+            Thread.sleep(20);
+        }
+
+        assertThat(renamedChanges(since, renamed)).isEqualTo(commentIds.size());
+        for (int i = 0; i < scheduleIds.size(); i++) {
+            assertThat(scheduleStamps.forComments(scheduleIds.get(i)).orElseThrow().etag())
+                    .isNotEqualTo(before.get(i).etag());
+        }
+    }
+
+    @Test
+    void reconcilerFixesRowsThePropagationMissed() {
+        User user = newUser();
+        Long scheduleId = scheduleRepository.save(new Schedule(user, user.getUserName(), "t", "c")).getId();
+        jdbcTemplate.update("update schedules set user_name = 'stale' where id = ?", scheduleId);
+
+        assertThat(authorNameReconciler.reconcileAll()).isGreaterThanOrEqualTo(1);
+
+        assertThat(staleRows(user.getId(), user.getUserName())).isZero();
+        assertThat(authorNameReconciler.reconcileAll()).isZero();
+    }
+
+    private long renamedChanges(Instant since, String userName) {
+        ChangesResponse<CommentResponse> changes = commentService.findChanges(null, since, ChangesResponse.MAX_PAGE_SIZE);
+        return changes.getItems().stream().filter(c -> c.getUserName().equals(userName)).count();
+    }
+
+    private int staleRows(Long userId, String userName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from schedules where user_id = ? and user_name <> ?", Integer.class, userId, userName);
+        return count == null ? 0 : count;
+    }
+
+    private User newUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("author-" + suffix, suffix + "@author.test", "pw"));
+    }
+}
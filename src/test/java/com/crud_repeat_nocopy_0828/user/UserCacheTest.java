@@ -0,0 +1,54 @@
+package com.crud_repeat_nocopy_0828.user;
+
+import com.crud_repeat_nocopy_0828.support.QueryCounter;
+import com.crud_repeat_nocopy_0828.user.dto.UserUpdateRequest;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedLookupIsServedFromSecondLevelCache() {
+        User user = saveUser();
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+        userService.findById(user.getId());
+
+        queryCounter.reset();
+        userService.findById(user.getId());
+
+        assertThat(queryCounter.count()).isZero();
+    }
+
+    @Test
+    void updateMeIsVisibleImmediately() {
+        User user = saveUser();
+        userService.findById(user.getId());
+
+        String renamed = "renamed-" + System.nanoTime();
+        userService.updateMe(user.getId(), new UserUpdateRequest(renamed, renamed + "@cache.test", "pw2"));
+
+        assertThat(userService.findById(user.getId()).getUserName()).isEqualTo(renamed);
+    }
+
+    private User saveUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("cache-" + suffix, suffix + "@cache.test", "pw"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.crud_repeat_nocopy_0828.user;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.job.DeletionJob;
+import com.crud_repeat_nocopy_0828.common.job.TombstonePurger;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.schedule.service.ScheduleDeletionService;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.crud_repeat_nocopy_0828.user.service.UserDeletionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크/비동기 경계를 작게 잡아서 여러 청크 + 비동기 작업 경로를 타게 한다
+@SpringBootTest(properties = {
+        "app.deletion.chunk-size=7",
+        "app.deletion.schedule-chunk-size=2",
+        "app.deletion.async-threshold=20",
+        "app.soft-delete.purge-pause-ms=0"
+})
+class UserDeletionTest {
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private ScheduleDeletionService scheduleDeletionService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TombstonePurger tombstonePurger;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteScheduleRemovesItsCommentsInline() {
+        User owner = newUser();
+        User other = newUser();
+        Schedule schedule = newSchedule(owner);
+        writeComments(schedule, other, 5);
+
+        Optional<DeletionJob> job = scheduleDeletionService.delete(schedule.getId(), owner.getId());
+
+        assertThat(job).isEmpty();
+        assertThat(scheduleRepository.existsById(schedule.getId())).isFalse();
+        assertThat(count("select count(*) from comments where schedule_id = ? and deleted_at is null", schedule.getId()))
+                .isZero();
+        // 요청 경로에서는 삭제 표시만 하고 행은 남는다
+        assertThat(count("select count(*) from comments where schedule_id = ?", schedule.getId())).isEqualTo(5);
+    }
+
+    @Test
+    void deleteMeRunsAsJobAndKeepsOtherCountsCorrect() throws Exception {
+        User me = newUser();
+        User other = newUser();
+        for (int i = 0; i < 3; i++) {
+            Schedule mine = newSchedule(me);
+            writeComments(mine, me, 4);
+            writeComments(mine, other, 6);
+        }
+        Schedule othersSchedule = newSchedule(other);
+        writeComments(othersSchedule, me, 9);
+        writeComments(othersSchedule, other, 2);
+
+        DeletionJob job = userDeletionService.deleteMe(me.getId()).orElseThrow();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(DeletionJob.Status.COMPLETED);
+        assertThat(job.getDeletedComments().get()).isEqualTo(3 * 10 + 9);
+        assertThat(job.getDeletedSchedules().get()).isEqualTo(3);
+        assertThat(userRepository.existsById(me.getId())).isFalse();
+        assertThat(count("select count(*) from schedules where user_id = ? and deleted_at is null", me.getId())).isZero();
+        assertThat(count("select count(*) from comments where user_id = ? and deleted_at is null", me.getId())).isZero();
+        assertThat(scheduleRepository.findResponseById(othersSchedule.getId()).orElseThrow().getCommentCount())
+                .isEqualTo(2);
+    }
+
+    // 내 일정에 내가 단 댓글은 한 번만 센다 (15건이면 async-threshold 20 아래라 요청 안에서 끝난다)
+    @Test
+    void deleteMeCountsOwnCommentsOnOwnSchedulesOnce() {
+        User me = newUser();
+        writeComments(newSchedule(me), me, 15);
+
+        Optional<DeletionJob> job = userDeletionService.deleteMe(me.getId());
+
+        assertThat(job).isEmpty();
+        assertThat(count("select count(*) from comments where user_id = ? and deleted_at is null", me.getId())).isZero();
+    }
+
+    @Test
+    void purgerPhysicallyRemovesTombstonesInForeignKeyOrder() throws Exception {
+        User me = newUser();
+        User other = newUser();
+        Schedule mine = newSchedule(me);
+        writeComments(mine, other, 3);
+        Schedule othersSchedule = newSchedule(other);
+        writeComments(othersSchedule, me, 2);
+
+        userDeletionService.deleteMe(me.getId());
+        tombstonePurger.purge(Instant.now().plusSeconds(1));
+
+        assertThat(count("select count(*) from users where id = ?", me.getId())).isZero();
+        assertThat(count("select count(*) from schedules where user_id = ?", me.getId())).isZero();
+        assertThat(count("select count(*) from comments where user_id = ?", me.getId())).isZero();
+        assertThat(count("select count(*) from comments where schedule_id = ?", mine.getId())).isZero();
+        assertThat(scheduleRepository.existsById(othersSchedule.getId())).isTrue();
+    }
+
+    private void awaitFinished(DeletionJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (job.getStatus() == DeletionJob.Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private void writeComments(Schedule schedule, User writer, int count) {
+        for (int i = 0; i < count; i++) {
+            commentService.create(schedule.getId(), writer.getId(), new CommentCreateRequest("c" + i));
+        }
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private User newUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User("del-" + suffix, suffix + "@del.test", "pw"));
+    }
+
+    private Schedule newSchedule(User user) {
+        return scheduleRepository.save(new Schedule(user, user.getUserName(), "title", "content"));
+    }
+}
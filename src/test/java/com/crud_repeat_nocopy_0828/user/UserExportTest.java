@@ -0,0 +1,91 @@
+package com.crud_repeat_nocopy_0828.user;
+
+import com.crud_repeat_nocopy_0828.comment.dto.CommentCreateRequest;
+import com.crud_repeat_nocopy_0828.comment.service.CommentService;
+import com.crud_repeat_nocopy_0828.common.session.SessionConst;
+import com.crud_repeat_nocopy_0828.schedule.entity.Schedule;
+import com.crud_repeat_nocopy_0828.schedule.repository.ScheduleRepository;
+import com.crud_repeat_nocopy_0828.user.entity.User;
+import com.crud_repeat_nocopy_0828.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.export.flush-every=2")
+@AutoConfigureMockMvc
+class UserExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Test
+    void exportsUserSchedulesAndTheirCommentsAsNdjson() throws Exception {
+        User owner = newUser("ex");
+        User other = newUser("ex-other");
+        List<Long> scheduleIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Schedule schedule = scheduleRepository.save(new Schedule(owner, owner.getUserName(), "t" + i, "c"));
+            scheduleIds.add(schedule.getId());
+            commentService.create(schedule.getId(), other.getId(), new CommentCreateRequest("from other " + i));
+            commentService.create(schedule.getId(), owner.getId(), new CommentCreateRequest("from owner " + i));
+        }
+        // 다른 사람 일정은 (내가 댓글을 달았더라도) 들어가지 않는다
+        Schedule foreign = scheduleRepository.save(new Schedule(other, other.getUserName(), "foreign", "c"));
+        commentService.create(foreign.getId(), owner.getId(), new CommentCreateRequest("mine on foreign"));
+
+        String body = mockMvc.perform(get("/users/me/export").sessionAttr(SessionConst.LOGIN_USER, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("user", "schedule", "schedule", "schedule",
+                        "comment", "comment", "comment", "comment", "comment", "comment");
+        assertThat(lines.get(0).get("data").get("id").asLong()).isEqualTo(owner.getId());
+        assertThat(lines.subList(1, 4)).extracting(line -> line.get("data").get("id").asLong())
+                .containsExactlyElementsOf(scheduleIds);
+        assertThat(lines.subList(4, 10)).extracting(line -> line.get("data").get("scheduleId").asLong())
+                .isSorted()
+                .doesNotContain(foreign.getId());
+    }
+
+    @Test
+    void exportRequiresLogin() throws Exception {
+        mockMvc.perform(get("/users/me/export")).andExpect(status().isUnauthorized());
+    }
+
+    private User newUser(String prefix) {
+        String suffix = String.valueOf(System.nanoTime());
+        return userRepository.save(new User(prefix + "-" + suffix, prefix + suffix + "@export.test", "pw"));
+    }
+}
@@ -0,0 +1,35 @@
+-- ReactiveReadApiTest 전용 스키마 (JPA 없이 뜨는 앱이라 테이블을 직접 만든다). 조회에 쓰는 컬럼만
+create table if not exists users (
+    id bigint primary key,
+    user_name varchar(50) not null,
+    email varchar(60) not null,
+    password varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint not null default 0,
+    deleted_at timestamp(6)
+);
+
+create table if not exists schedules (
+    id bigint primary key,
+    user_id bigint references users (id),
+    user_name varchar(255),
+    title varchar(255),
+    content varchar(255),
+    comment_count bigint not null default 0,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint not null default 0,
+    deleted_at timestamp(6)
+);
+
+create table if not exists comments (
+    id bigint primary key,
+    schedule_id bigint references schedules (id),
+    user_id bigint references users (id),
+    content varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint not null default 0,
+    deleted_at timestamp(6)
+);